@@ -0,0 +1,95 @@
+package mod.traister101.datagenutils.data;
+
+import com.google.gson.*;
+import com.mojang.logging.LogUtils;
+import mod.traister101.datagenutils.data.util.LanguageTranslation;
+
+import net.minecraft.resources.ResourceLocation;
+
+import org.slf4j.Logger;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * A local index of what each fingerprinted {@link AdvancementSubProvider} generated last run, keyed by the sub provider class. Lives in the
+ * output's {@code .cache} folder next to the vanilla hash cache
+ */
+final class AdvancementIndex {
+
+	private static final Logger LOGGER = LogUtils.getLogger();
+	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+	private AdvancementIndex() {}
+
+	/**
+	 * Loads the index, a missing or unreadable index is treated as empty
+	 *
+	 * @param path The index path
+	 *
+	 * @return The entries of the index
+	 */
+	static Map<String, Entry> load(final Path path) {
+		if (!Files.isRegularFile(path)) return Map.of();
+
+		try (final var reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			final var entries = new HashMap<String, Entry>();
+			JsonParser.parseReader(reader).getAsJsonObject().asMap().forEach((key, json) -> {
+				final var object = json.getAsJsonObject();
+				final var advancements = new LinkedHashMap<ResourceLocation, String>();
+				object.getAsJsonObject("advancements")
+						.asMap()
+						.forEach((id, hash) -> advancements.put(ResourceLocation.parse(id), hash.getAsString()));
+				final var translations = object.getAsJsonObject("translations")
+						.asMap()
+						.entrySet()
+						.stream()
+						.map(translation -> LanguageTranslation.of(translation.getKey(), translation.getValue().getAsString()))
+						.toList();
+				entries.put(key, new Entry(object.get("fingerprint").getAsString(), advancements, translations));
+			});
+			return entries;
+		} catch (final IOException | RuntimeException exception) {
+			LOGGER.warn("Failed to read advancement index {}, regenerating everything", path, exception);
+			return Map.of();
+		}
+	}
+
+	/**
+	 * Saves the index, replacing any previous index
+	 *
+	 * @param path The index path
+	 * @param entries The entries of the index
+	 */
+	static void save(final Path path, final Map<String, Entry> entries) {
+		final var json = new JsonObject();
+		new TreeMap<>(entries).forEach((key, entry) -> {
+			final var object = new JsonObject();
+			object.addProperty("fingerprint", entry.fingerprint());
+			final var advancements = new JsonObject();
+			entry.advancements().forEach((id, hash) -> advancements.addProperty(id.toString(), hash));
+			object.add("advancements", advancements);
+			final var translations = new JsonObject();
+			entry.translations().forEach(translation -> translations.addProperty(translation.key(), translation.translation()));
+			object.add("translations", translations);
+			json.add(key, object);
+		});
+
+		try {
+			Files.createDirectories(path.getParent());
+			Files.writeString(path, GSON.toJson(json), StandardCharsets.UTF_8);
+		} catch (final IOException exception) {
+			LOGGER.warn("Failed to write advancement index {}", path, exception);
+		}
+	}
+
+	/**
+	 * What a single sub provider generated
+	 *
+	 * @param fingerprint The fingerprint of the sub provider when it generated
+	 * @param advancements The ids of the advancements it generated and the sha1 of each written file
+	 * @param translations The translations it generated
+	 */
+	record Entry(String fingerprint, Map<ResourceLocation, String> advancements, List<LanguageTranslation> translations) {}
+}
\ No newline at end of file
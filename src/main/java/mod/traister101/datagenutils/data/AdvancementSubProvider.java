@@ -1,9 +1,13 @@
 package mod.traister101.datagenutils.data;
 
+import com.google.common.hash.Hashing;
 import mod.traister101.datagenutils.data.util.*;
 
 import net.minecraft.core.HolderLookup.Provider;
 
+import java.io.*;
+import java.util.Optional;
+
 /**
  * An interface used to generated advancements. This is similar to
  * vanilla's {@link net.minecraft.data.advancements.AdvancementSubProvider} however it's built to use
@@ -16,7 +20,39 @@ public interface AdvancementSubProvider {
 	 * A method used to generate advancements for a mod
 	 *
 	 * @param output The advancement output
-	 * @param registries A lookup for registries and their objects
+	 * @param registries A lookup for registries and their objects. Use {@link IngredientResolver#of(Provider)} to resolve the items of
+	 * ingredients and tags
 	 */
 	void generate(AdvancementOutput output, Provider registries);
+
+	/**
+	 * A fingerprint of everything this sub provider generates from. When present and unchanged since the last run this sub provider isn't run
+	 * and what it generated last run is replayed instead, translations included. Files which no longer match the hash recorded when they were
+	 * written (edited by hand, or a failed write) cause the sub provider to generate again. Leave empty (the default) to always generate
+	 *
+	 * @return The fingerprint of this sub provider
+	 *
+	 * @see #classFingerprint(Class)
+	 */
+	default Optional<String> fingerprint() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Helper to fingerprint a class by its bytecode. This only covers the class itself, not nested classes or anything else it references
+	 *
+	 * @param type The class
+	 *
+	 * @return A fingerprint of the class bytecode
+	 */
+	static String classFingerprint(final Class<?> type) {
+		final var name = type.getName();
+		try (final var stream = type.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+			if (stream == null) throw new IllegalStateException("Couldn't find the bytecode for " + name);
+
+			return Hashing.sha1().hashBytes(stream.readAllBytes()).toString();
+		} catch (final IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
 }
\ No newline at end of file
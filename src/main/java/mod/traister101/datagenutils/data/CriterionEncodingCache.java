@@ -0,0 +1,93 @@
+package mod.traister101.datagenutils.data;
+
+import com.google.gson.JsonElement;
+import com.mojang.serialization.DynamicOps;
+import net.neoforged.neoforge.common.conditions.*;
+
+import net.minecraft.advancements.*;
+import net.minecraft.advancements.critereon.ImpossibleTrigger;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Encodes advancements reusing the encoded json of identical {@link Criterion}s. Advancements are encoded with a cheap placeholder in
+ * place of each criterion, the real criteria are then patched in from the cache. Criteria are looked up by identity first then by equality.
+ * Safe to use from multiple threads
+ */
+final class CriterionEncodingCache {
+
+	private static final Criterion<?> PLACEHOLDER = CriteriaTriggers.IMPOSSIBLE.createCriterion(new ImpossibleTrigger.TriggerInstance());
+	private static final String CRITERIA = "criteria";
+
+	private final DynamicOps<JsonElement> ops;
+	private final Map<Criterion<?>, JsonElement> byIdentity = Collections.synchronizedMap(new IdentityHashMap<>());
+	private final Map<Criterion<?>, JsonElement> byEquality = new ConcurrentHashMap<>();
+	private final AtomicInteger encoded = new AtomicInteger();
+	private final AtomicInteger reused = new AtomicInteger();
+
+	CriterionEncodingCache(final DynamicOps<JsonElement> ops) {
+		this.ops = ops;
+	}
+
+	/**
+	 * Encodes the advancement and conditions the same as {@link Advancement#CONDITIONAL_CODEC}
+	 *
+	 * @param advancement The advancement
+	 * @param conditions The conditions
+	 *
+	 * @return The encoded advancement
+	 */
+	JsonElement encode(final Advancement advancement, final ICondition... conditions) {
+		final var placeholders = new LinkedHashMap<String, Criterion<?>>(advancement.criteria().size());
+		advancement.criteria().keySet().forEach(name -> placeholders.put(name, PLACEHOLDER));
+
+		final var json = encodeAdvancement(new Advancement(advancement.parent(), advancement.display(), advancement.rewards(), placeholders,
+				advancement.requirements(), advancement.sendsTelemetryEvent()), conditions);
+		if (!json.isJsonObject() || !json.getAsJsonObject().has(CRITERIA)) return encodeAdvancement(advancement, conditions);
+
+		final var criteria = json.getAsJsonObject().getAsJsonObject(CRITERIA);
+		advancement.criteria().forEach((name, criterion) -> criteria.add(name, encodeCriterion(criterion)));
+		return json;
+	}
+
+	/**
+	 * @return The amount of criteria actually encoded
+	 */
+	int encoded() {
+		return encoded.get();
+	}
+
+	/**
+	 * @return The amount of criteria reused from an earlier encode
+	 */
+	int reused() {
+		return reused.get();
+	}
+
+	private JsonElement encodeAdvancement(final Advancement advancement, final ICondition... conditions) {
+		return Advancement.CONDITIONAL_CODEC.encodeStart(ops, Optional.of(new WithConditions<>(advancement, conditions))).getOrThrow();
+	}
+
+	private JsonElement encodeCriterion(final Criterion<?> criterion) {
+		final var identical = byIdentity.get(criterion);
+		if (identical != null) {
+			reused.incrementAndGet();
+			return identical;
+		}
+
+		final var equal = byEquality.get(criterion);
+		if (equal != null) {
+			reused.incrementAndGet();
+			byIdentity.put(criterion, equal);
+			return equal;
+		}
+
+		encoded.incrementAndGet();
+		final var json = Criterion.CODEC.encodeStart(ops, criterion).getOrThrow();
+		final var previous = byEquality.putIfAbsent(criterion, json);
+		byIdentity.put(criterion, previous == null ? json : previous);
+		return previous == null ? json : previous;
+	}
+}
\ No newline at end of file
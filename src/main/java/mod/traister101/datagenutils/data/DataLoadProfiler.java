@@ -0,0 +1,178 @@
+package mod.traister101.datagenutils.data;
+
+import com.google.gson.*;
+import com.mojang.logging.LogUtils;
+import com.mojang.serialization.*;
+import net.neoforged.neoforge.common.conditions.*;
+
+import net.minecraft.Util;
+import net.minecraft.advancements.Advancement;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.data.*;
+import net.minecraft.world.item.crafting.Recipe;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Profiles loading the generated data the way the server does at start, by decoding every generated file through its codec. The decode time
+ * and allocation of each file are measured and the slowest, most allocating and largest files are logged, so we can optimize what we
+ * generate and not just how we generate it.
+ * <p>
+ * Recipes and advancements are profiled by default, other directories can be added with {@link #decoder(String, Decoder)}. For a TFC data
+ * manager that's {@code decoder("tfc/" + manager.getName(), manager.codec())}. This provider writes nothing and must be added
+ * <strong>after</strong> the providers generating the data, as providers run in the order they're added
+ */
+public final class DataLoadProfiler implements DataProvider {
+
+	private static final Logger LOGGER = LogUtils.getLogger();
+	/**
+	 * The thread bean measuring allocation, {@code null} if the JVM can't measure the allocation of a thread
+	 */
+	@Nullable
+	private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = allocationBean();
+
+	private final Path dataFolder;
+	private final CompletableFuture<HolderLookup.Provider> registries;
+	private final int reported;
+	private final Map<String, Decoder<?>> decoders = new LinkedHashMap<>();
+
+	/**
+	 * The constructor
+	 *
+	 * @param output The output
+	 * @param registries The registries
+	 * @param reported How many of the worst files to report per measurement
+	 */
+	public DataLoadProfiler(final PackOutput output, final CompletableFuture<HolderLookup.Provider> registries, final int reported) {
+		this.dataFolder = output.getOutputFolder(PackOutput.Target.DATA_PACK);
+		this.registries = registries;
+		this.reported = reported;
+		decoder("recipe", Recipe.CONDITIONAL_CODEC);
+		decoder("advancement", Advancement.CONDITIONAL_CODEC);
+	}
+
+	/**
+	 * Profile the files in a directory
+	 *
+	 * @param directory The directory inside each namespace such as {@code recipe}
+	 * @param decoder The decoder the server loads these files with
+	 *
+	 * @return This
+	 */
+	public DataLoadProfiler decoder(final String directory, final Decoder<?> decoder) {
+		decoders.put(directory, decoder);
+		return this;
+	}
+
+	@Override
+	public CompletableFuture<?> run(final CachedOutput output) {
+		return registries.thenAcceptAsync(provider -> {
+			final var ops = new ConditionalOps<>(provider.createSerializationContext(JsonOps.INSTANCE), ICondition.IContext.EMPTY);
+			// Measured on a single thread so the allocation of each decode can be attributed
+			final var samples = new ArrayList<Sample>();
+			decoders.forEach((directory, decoder) -> namespaces().map(namespace -> namespace.resolve(directory))
+					.filter(Files::isDirectory)
+					.forEach(folder -> profile(folder, decoder, ops, samples)));
+			report(samples);
+		}, Util.backgroundExecutor());
+	}
+
+	@Override
+	public String getName() {
+		return "Data load profiler";
+	}
+
+	private Stream<Path> namespaces() {
+		if (!Files.isDirectory(dataFolder)) return Stream.empty();
+
+		try (final var namespaces = Files.list(dataFolder)) {
+			return namespaces.filter(Files::isDirectory).sorted().toList().stream();
+		} catch (final IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	private void profile(final Path folder, final Decoder<?> decoder, final DynamicOps<JsonElement> ops, final List<Sample> samples) {
+		final List<Path> files;
+		try (final var walk = Files.walk(folder)) {
+			files = walk.filter(path -> path.toString().endsWith(".json")).sorted().toList();
+		} catch (final IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+
+		for (final var file : files) {
+			try {
+				final var bytes = Files.readAllBytes(file);
+				final var allocatedBefore = allocatedBytes();
+				final var start = System.nanoTime();
+				final var result = decoder.parse(ops, JsonParser.parseString(new String(bytes, StandardCharsets.UTF_8)));
+				final var nanos = System.nanoTime() - start;
+				final var allocated = allocatedBefore < 0 ? -1 : allocatedBytes() - allocatedBefore;
+				result.ifError(error -> LOGGER.warn("Failed to decode {}: {}", dataFolder.relativize(file), error.message()));
+				samples.add(new Sample(dataFolder.relativize(file), bytes.length, nanos, allocated));
+			} catch (final IOException | JsonParseException exception) {
+				LOGGER.warn("Failed to read {}", dataFolder.relativize(file), exception);
+			}
+		}
+	}
+
+	private void report(final List<Sample> samples) {
+		if (samples.isEmpty()) return;
+
+		final var totalNanos = samples.stream().mapToLong(Sample::nanos).sum();
+		final var totalBytes = samples.stream().mapToLong(Sample::bytes).sum();
+		final var totalAllocated = ALLOCATION_BEAN == null ? -1 : samples.stream().mapToLong(Sample::allocated).sum();
+		LOGGER.info("Decoded {} files ({} bytes) in {} ms, allocating {} bytes", samples.size(), totalBytes, totalNanos / 1_000_000,
+				totalAllocated < 0 ? "unknown" : totalAllocated);
+
+		reportWorst(samples, "Slowest", Sample::nanos, "ns");
+		if (totalAllocated >= 0) reportWorst(samples, "Most allocating", Sample::allocated, "bytes allocated");
+		reportWorst(samples, "Largest", Sample::bytes, "bytes");
+	}
+
+	private void reportWorst(final List<Sample> samples, final String title, final ToLongFunction<Sample> measure, final String unit) {
+		LOGGER.info("{} files:", title);
+		samples.stream()
+				.sorted(Comparator.comparingLong(measure).reversed())
+				.limit(reported)
+				.forEachOrdered(sample -> LOGGER.info("\t{} {} {}", sample.path(), measure.applyAsLong(sample), unit));
+	}
+
+	/**
+	 * @return The bytes allocated by this thread so far, or a negative value if the JVM can't tell us
+	 */
+	private static long allocatedBytes() {
+		return ALLOCATION_BEAN == null ? -1 : ALLOCATION_BEAN.getCurrentThreadAllocatedBytes();
+	}
+
+	/**
+	 * Checked once, an unsupported or disabled bean returns -1 for every call which would otherwise look like nothing was allocated
+	 */
+	@Nullable
+	private static com.sun.management.ThreadMXBean allocationBean() {
+		if (ManagementFactory.getThreadMXBean() instanceof final com.sun.management.ThreadMXBean threadMXBean &&
+				threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+			return threadMXBean;
+		}
+		return null;
+	}
+
+	/**
+	 * A single decoded file
+	 *
+	 * @param path The path relative to the data folder
+	 * @param bytes The file size
+	 * @param nanos The time taken to parse and decode
+	 * @param allocated The bytes allocated while parsing and decoding, negative if unknown
+	 */
+	private record Sample(Path path, long bytes, long nanos, long allocated) {}
+}
\ No newline at end of file
@@ -1,11 +1,15 @@
 package mod.traister101.datagenutils.data;
 
+import com.google.common.hash.*;
+import com.mojang.logging.LogUtils;
+import com.mojang.serialization.JsonOps;
 import mod.traister101.datagenutils.data.EnhancedLanguageProvider.ExtraLanguageProvider;
 import mod.traister101.datagenutils.data.util.*;
 import net.neoforged.neoforge.common.conditions.*;
 import net.neoforged.neoforge.common.data.ExistingFileHelper;
 import net.neoforged.neoforge.common.data.ExistingFileHelper.ResourceType;
 
+import net.minecraft.Util;
 import net.minecraft.advancements.*;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.HolderLookup.Provider;
@@ -14,9 +18,14 @@ import net.minecraft.data.*;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.PackType;
 
+import lombok.Setter;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import java.io.IOException;
+import java.nio.file.*;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.Stream;
+import java.util.concurrent.*;
+import java.util.stream.*;
 
 /**
  * An enhanced Advancement Provider.
@@ -35,13 +44,27 @@ import java.util.stream.Stream;
  */
 public final class EnhancedAdvancementProvider implements ExtraLanguageProvider, DataProvider {
 
+	private static final Logger LOGGER = LogUtils.getLogger();
 	private static final ResourceType ADVANCEMENT = new ResourceType(PackType.SERVER_DATA, ".json", "advancement");
 
 	private final PackOutput.PathProvider pathProvider;
 	private final CompletableFuture<HolderLookup.Provider> registries;
 	private final ExistingFileHelper existingFileHelper;
 	private final List<AdvancementSubProvider> subProviders;
-	private final List<LanguageTranslation> languageTranslations = new ArrayList<>();
+	private final Path indexPath;
+	private final boolean parallel;
+	private final Queue<LanguageTranslation> languageTranslations = new ConcurrentLinkedQueue<>();
+	/**
+	 * The format advancements are written in
+	 */
+	@Setter
+	private JsonFormat jsonFormat = JsonFormat.DEFAULT;
+	/**
+	 * The executor files are written on, {@code null} to write on the background executor
+	 */
+	@Setter
+	@Nullable
+	private WriteExecutor writeExecutor;
 
 	/**
 	 * The constructor
@@ -53,10 +76,26 @@ public final class EnhancedAdvancementProvider implements ExtraLanguageProvider,
 	 */
 	public EnhancedAdvancementProvider(final PackOutput output, final CompletableFuture<Provider> registries,
 			final ExistingFileHelper existingFileHelper, final List<AdvancementSubProvider> subProviders) {
+		this(output, registries, existingFileHelper, subProviders, false);
+	}
+
+	/**
+	 * The constructor
+	 *
+	 * @param output The output
+	 * @param registries The registries
+	 * @param existingFileHelper The existing file helper
+	 * @param subProviders The sub providers actually adding advancements
+	 * @param parallel If the sub providers should generate in parallel. Only use this if your sub providers don't share state
+	 */
+	public EnhancedAdvancementProvider(final PackOutput output, final CompletableFuture<Provider> registries,
+			final ExistingFileHelper existingFileHelper, final List<AdvancementSubProvider> subProviders, final boolean parallel) {
 		this.pathProvider = output.createRegistryElementsPathProvider(Registries.ADVANCEMENT);
 		this.registries = registries;
 		this.existingFileHelper = existingFileHelper;
 		this.subProviders = subProviders;
+		this.indexPath = output.getOutputFolder().resolve(".cache").resolve("datagen_utils").resolve("advancements.json");
+		this.parallel = parallel;
 	}
 
 	@Override
@@ -67,36 +106,52 @@ public final class EnhancedAdvancementProvider implements ExtraLanguageProvider,
 	@Override
 	public CompletableFuture<?> run(final CachedOutput output) {
 		return this.registries.thenCompose(registries -> {
-			final Set<ResourceLocation> set = new HashSet<>();
-			final List<CompletableFuture<?>> list = new ArrayList<>();
-
-			final var advancementOutput = new AdvancementOutput() {
-				@Override
-				public AdvancementHolder accept(final AdvancementHolder advancement, final ICondition... conditions) {
-					if (!set.add(advancement.id())) throw new IllegalStateException("Duplicate advancement " + advancement.id());
-
-					advancement.value().parent().ifPresent(parent -> {
-						if (!existingFileHelper.exists(parent, ADVANCEMENT)) {
-							throw new IllegalStateException(
-									"The parent: '%s' of advancement '%s', has not been saved yet!".formatted(parent, advancement.id()));
-						}
-					});
-
-					existingFileHelper.trackGenerated(advancement.id(), ADVANCEMENT);
-					list.add(DataProvider.saveStable(output, registries, Advancement.CONDITIONAL_CODEC,
-							Optional.of(new WithConditions<>(advancement.value(), conditions)), pathProvider.json(advancement.id())));
-					return advancement;
+			languageTranslations.clear();
+			final var criteria = new CriterionEncodingCache(registries.createSerializationContext(JsonOps.INSTANCE));
+			// The hash of every file which was successfully written, recorded in the index
+			final var written = new ConcurrentHashMap<Path, HashCode>();
+			final var advancementOutput = new ConcurrentAdvancementOutput((path, data, hashCode) -> {
+				output.writeIfNeeded(path, data, hashCode);
+				written.put(path, hashCode);
+			}, criteria);
+
+			final var index = AdvancementIndex.load(indexPath);
+			final var replayed = new ConcurrentHashMap<String, AdvancementIndex.Entry>();
+			final var recorded = new ConcurrentHashMap<String, RecordingOutput>();
+			// Sub providers sharing a class can't be told apart in the index
+			final var indexable = subProviders.stream()
+					.collect(Collectors.groupingBy(subProvider -> subProvider.getClass().getName(), Collectors.counting()));
+
+			(parallel ? subProviders.parallelStream() : subProviders.stream()).forEach(subProvider -> {
+				final var key = subProvider.getClass().getName();
+				// Replayed files are reused as is, so they must have been written in the same format
+				final var fingerprint = indexable.get(key) == 1 ? subProvider.fingerprint()
+						.map(hash -> hash + ":" + jsonFormat) : Optional.<String>empty();
+				if (fingerprint.isEmpty()) {
+					subProvider.generate(advancementOutput, registries);
+					return;
 				}
 
-				@Override
-				public void lang(final LanguageTranslation languageTranslation) {
-					languageTranslations.add(languageTranslation);
+				final var entry = index.get(key);
+				if (entry != null && entry.fingerprint().equals(fingerprint.get()) && advancementOutput.replay(entry)) {
+					replayed.put(key, entry);
+					return;
 				}
-			};
 
-			subProviders.forEach(subProvider -> subProvider.generate(advancementOutput, registries));
+				final var recordingOutput = new RecordingOutput(advancementOutput, fingerprint.get());
+				subProvider.generate(recordingOutput, registries);
+				recorded.put(key, recordingOutput);
+			});
 
-			return CompletableFuture.allOf(list.toArray(CompletableFuture[]::new));
+			advancementOutput.validateParents();
+			LOGGER.info("Encoded {} advancement criteria, reused {}", criteria.encoded(), criteria.reused());
+			// Only index what made it to disk, anything missing is regenerated next run
+			return CompletableFuture.allOf(advancementOutput.futures.toArray(CompletableFuture[]::new)).thenRun(() -> {
+				final var nextIndex = new HashMap<String, AdvancementIndex.Entry>(replayed);
+				recorded.forEach((key, recordingOutput) -> recordingOutput.entry(written).ifPresent(entry -> nextIndex.put(key, entry)));
+				AdvancementIndex.save(indexPath, nextIndex);
+				if (writeExecutor != null) LOGGER.info("{} done writing, write executor: {}", getName(), writeExecutor.metrics().summary());
+			});
 		});
 	}
 
@@ -104,4 +159,165 @@ public final class EnhancedAdvancementProvider implements ExtraLanguageProvider,
 	public String getName() {
 		return "Advancements";
 	}
+
+	/**
+	 * An {@link AdvancementOutput} safe to use from multiple sub providers at once. Duplicate ids are caught by a concurrent set and parents
+	 * are validated once every sub provider is done, so they can be generated in any order
+	 */
+	private final class ConcurrentAdvancementOutput implements AdvancementOutput {
+
+		private final Set<ResourceLocation> ids = ConcurrentHashMap.newKeySet();
+		private final Queue<AdvancementHolder> children = new ConcurrentLinkedQueue<>();
+		private final Queue<CompletableFuture<?>> futures = new ConcurrentLinkedQueue<>();
+		private final CachedOutput output;
+		private final CriterionEncodingCache criteria;
+
+		private ConcurrentAdvancementOutput(final CachedOutput output, final CriterionEncodingCache criteria) {
+			this.output = output;
+			this.criteria = criteria;
+		}
+
+		@Override
+		public AdvancementHolder accept(final AdvancementHolder advancement, final ICondition... conditions) {
+			if (!ids.add(advancement.id())) throw new IllegalStateException("Duplicate advancement " + advancement.id());
+
+			if (advancement.value().parent().isPresent()) children.add(advancement);
+
+			// The existing file helper isn't thread safe
+			synchronized (existingFileHelper) {
+				existingFileHelper.trackGenerated(advancement.id(), ADVANCEMENT);
+			}
+			futures.add(jsonFormat.save(output, criteria.encode(advancement.value(), conditions), pathProvider.json(advancement.id()),
+					writeExecutor));
+			return advancement;
+		}
+
+		@Override
+		public boolean isConcurrent() {
+			return true;
+		}
+
+		@Override
+		public void lang(final LanguageTranslation languageTranslation) {
+			languageTranslations.add(languageTranslation);
+		}
+
+		@Override
+		public void lang(final Collection<LanguageTranslation> languageTranslations) {
+			EnhancedAdvancementProvider.this.languageTranslations.addAll(languageTranslations);
+		}
+
+		/**
+		 * Replays what a sub provider generated last run without running it
+		 *
+		 * @param entry The index entry of the sub provider
+		 *
+		 * @return If the entry was replayed, entries with missing files or files which no longer match the indexed hash can't be replayed
+		 */
+		private boolean replay(final AdvancementIndex.Entry entry) {
+			final var files = new ArrayList<byte[]>(entry.advancements().size());
+			for (final var advancement : entry.advancements().entrySet()) {
+				final var path = pathProvider.json(advancement.getKey());
+				if (!Files.isRegularFile(path)) return false;
+
+				try {
+					final var bytes = Files.readAllBytes(path);
+					// Edited by hand or left truncated by a failed write
+					if (!Hashing.sha1().hashBytes(bytes).toString().equals(advancement.getValue())) return false;
+					files.add(bytes);
+				} catch (final IOException exception) {
+					LOGGER.warn("Failed to read file {}, regenerating", path, exception);
+					return false;
+				}
+			}
+
+			var file = 0;
+			for (final var advancement : entry.advancements().entrySet()) {
+				final var advancementId = advancement.getKey();
+				final var path = pathProvider.json(advancementId);
+				final var bytes = files.get(file++);
+				if (!ids.add(advancementId)) throw new IllegalStateException("Duplicate advancement " + advancementId);
+
+				synchronized (existingFileHelper) {
+					existingFileHelper.trackGenerated(advancementId, ADVANCEMENT);
+				}
+				// The cached output needs to see the file so it's kept, the unchanged hash means it won't be rewritten. Not a write, so it
+				// doesn't go through the write executor
+				futures.add(CompletableFuture.runAsync(() -> {
+					try {
+						output.writeIfNeeded(path, bytes, HashCode.fromString(advancement.getValue()));
+					} catch (final IOException exception) {
+						LOGGER.error("Failed to replay file {}", path, exception);
+					}
+				}, Util.backgroundExecutor()));
+			}
+			lang(entry.translations());
+			return true;
+		}
+
+		private void validateParents() {
+			for (final var advancement : children) {
+				advancement.value().parent().ifPresent(parent -> {
+					if (!ids.contains(parent) && !existingFileHelper.exists(parent, ADVANCEMENT)) {
+						throw new IllegalStateException("The parent: '%s' of advancement '%s', doesn't exist!".formatted(parent, advancement.id()));
+					}
+				});
+			}
+		}
+	}
+
+	/**
+	 * Records what a fingerprinted sub provider generates for the index
+	 */
+	private final class RecordingOutput implements AdvancementOutput {
+
+		private final Queue<ResourceLocation> advancements = new ConcurrentLinkedQueue<>();
+		private final Queue<LanguageTranslation> translations = new ConcurrentLinkedQueue<>();
+		private final ConcurrentAdvancementOutput inner;
+		private final String fingerprint;
+
+		private RecordingOutput(final ConcurrentAdvancementOutput inner, final String fingerprint) {
+			this.inner = inner;
+			this.fingerprint = fingerprint;
+		}
+
+		@Override
+		public AdvancementHolder accept(final AdvancementHolder advancement, final ICondition... conditions) {
+			advancements.add(advancement.id());
+			return inner.accept(advancement, conditions);
+		}
+
+		@Override
+		public boolean isConcurrent() {
+			return true;
+		}
+
+		@Override
+		public void lang(final LanguageTranslation languageTranslation) {
+			translations.add(languageTranslation);
+			inner.lang(languageTranslation);
+		}
+
+		@Override
+		public void lang(final Collection<LanguageTranslation> languageTranslations) {
+			translations.addAll(languageTranslations);
+			inner.lang(languageTranslations);
+		}
+
+		/**
+		 * @param written The hash of every file which was successfully written
+		 *
+		 * @return The index entry, empty if any of the advancements failed to write
+		 */
+		private Optional<AdvancementIndex.Entry> entry(final Map<Path, HashCode> written) {
+			final var hashes = new LinkedHashMap<ResourceLocation, String>();
+			for (final var advancement : advancements) {
+				final var hashCode = written.get(pathProvider.json(advancement));
+				if (hashCode == null) return Optional.empty();
+
+				hashes.put(advancement, hashCode.toString());
+			}
+			return Optional.of(new AdvancementIndex.Entry(fingerprint, hashes, List.copyOf(translations)));
+		}
+	}
 }
\ No newline at end of file
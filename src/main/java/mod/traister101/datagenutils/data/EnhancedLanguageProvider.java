@@ -1,10 +1,13 @@
 package mod.traister101.datagenutils.data;
 
-import com.google.gson.JsonObject;
-import mod.traister101.datagenutils.data.util.LanguageTranslation;
+import com.google.common.hash.*;
+import com.google.gson.stream.JsonWriter;
+import com.mojang.logging.LogUtils;
+import mod.traister101.datagenutils.data.util.*;
 import net.neoforged.neoforge.common.data.LanguageProvider;
 import net.neoforged.neoforge.registries.*;
 
+import net.minecraft.Util;
 import net.minecraft.data.*;
 import net.minecraft.data.PackOutput.Target;
 import net.minecraft.resources.ResourceLocation;
@@ -15,6 +18,9 @@ import net.minecraft.world.level.block.Block;
 
 import lombok.*;
 import org.jetbrains.annotations.Contract;
+import org.slf4j.Logger;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -26,7 +32,29 @@ import java.util.stream.Stream;
  */
 public abstract class EnhancedLanguageProvider implements DataProvider {
 
-	private final Map<String, String> data = new TreeMap<>();
+	private static final Logger LOGGER = LogUtils.getLogger();
+	private static final String MANUAL_SOURCE = "addTranslations";
+	private static final int MANUAL_SOURCE_ID = 0;
+
+	/**
+	 * Collected straight into compact arenas, sorted the same as {@link DataProvider#saveStable(CachedOutput, com.google.gson.JsonElement, Path)}
+	 * sorts keys only once it's written
+	 */
+	private final LanguageTable table = new LanguageTable();
+	/**
+	 * The names of the sources of translations, indexed by the source id stored in the table. The first is {@link #MANUAL_SOURCE}
+	 */
+	private final List<String> sources = new ArrayList<>(List.of(MANUAL_SOURCE));
+	/**
+	 * Every source of each duplicated key, reported together once collection is done
+	 */
+	private final Map<String, List<String>> duplicates = new LinkedHashMap<>();
+	private int currentSource = MANUAL_SOURCE_ID;
+	/**
+	 * The format the language file is written in
+	 */
+	@Setter
+	private JsonFormat jsonFormat = JsonFormat.DEFAULT;
 	private final PackOutput output;
 	private final String modid;
 	private final String locale;
@@ -56,13 +84,28 @@ public abstract class EnhancedLanguageProvider implements DataProvider {
 
 	@Override
 	public CompletableFuture<?> run(final CachedOutput cache) {
-		Arrays.stream(extraLanguageProviders).flatMap(ExtraLanguageProvider::extraTranslations).forEach(this::add);
+		for (final var extraLanguageProvider : extraLanguageProviders) {
+			currentSource = sources.size();
+			sources.add(extraLanguageProvider.getClass().getName());
+			extraLanguageProvider.extraTranslations().forEach(this::add);
+		}
+		currentSource = MANUAL_SOURCE_ID;
 		addTranslations();
-		knownRegistryContents().forEach(this::validate);
+		sources.subList(MANUAL_SOURCE_ID + 1, sources.size()).clear();
+		try {
+			analyze();
+			// Validation and the write only need the sorted front coded keys, not the hash index
+			table.freeze();
+			knownRegistryContents().forEach(contents -> validate(table, contents));
+		} catch (final RuntimeException exception) {
+			// Nothing gets written, don't carry the entries into the next run
+			table.clear();
+			throw exception;
+		}
 
-		if (!data.isEmpty()) {
+		if (!table.isEmpty()) {
 			final var path = output.getOutputFolder(Target.RESOURCE_PACK).resolve(modid).resolve("lang").resolve(locale + ".json");
-			return save(cache, path);
+			return save(cache, path, table, jsonFormat).whenComplete((unused, throwable) -> table.clear());
 		}
 
 		return CompletableFuture.allOf();
@@ -73,6 +116,23 @@ public abstract class EnhancedLanguageProvider implements DataProvider {
 		return "Languages: " + locale + " for mod: " + modid;
 	}
 
+	/**
+	 * @return The extra language providers, so a {@link WatchProvider} re-running one can re-run this too
+	 */
+	List<ExtraLanguageProvider> extraLanguageProviders() {
+		return List.of(extraLanguageProviders);
+	}
+
+	/**
+	 * If translations sharing the exact same value under different keys should be reported. Often intentional, such as an item and its tag
+	 * sharing a name, so this is opt in
+	 *
+	 * @return If shared translations should be reported
+	 */
+	protected boolean reportSharedTranslations() {
+		return false;
+	}
+
 	/**
 	 * Returns a stream of the known registry contents commonly Items, Blocks and Entities
 	 *
@@ -81,7 +141,7 @@ public abstract class EnhancedLanguageProvider implements DataProvider {
 	protected abstract Stream<KnownRegistryContents<?>> knownRegistryContents();
 
 	/**
-	 * Add a language translation
+	 * Add a language translation. Duplicate keys are collected and reported together once all translations are added
 	 *
 	 * @param languageTranslation The language translation
 	 */
@@ -90,27 +150,71 @@ public abstract class EnhancedLanguageProvider implements DataProvider {
 	}
 
 	private void add(final String key, final String translation) {
-		if (data.put(key, translation) != null) throw new IllegalStateException("Duplicate translation key " + key);
+		final var existingSource = table.add(key, translation, currentSource);
+		if (existingSource < 0) return;
+
+		duplicates.computeIfAbsent(key, duplicate -> new ArrayList<>(List.of(sources.get(existingSource)))).add(sources.get(currentSource));
+	}
+
+	/**
+	 * Reports problems over every collected translation at once. Duplicate keys are an error, keys only differing by case and (optionally)
+	 * identical values under different keys are warnings
+	 *
+	 * @throws IllegalStateException If there are duplicate keys. This is an error, fix your code
+	 */
+	private void analyze() throws IllegalStateException {
+		if (!duplicates.isEmpty()) {
+			final var message = new StringBuilder("Duplicate translation keys in ").append(getName()).append(':');
+			duplicates.forEach((key, keySources) -> message.append("\n\t").append(key).append(" from ").append(keySources));
+			duplicates.clear();
+			throw new IllegalStateException(message.toString());
+		}
+
+		table.caseCollisions().forEach(keys -> LOGGER.warn("Translation keys {} in {} only differ by case", keys, getName()));
+
+		if (!reportSharedTranslations()) return;
+
+		table.sharedValues()
+				.forEach(group -> LOGGER.warn("Translation keys {} in {} share the translation '{}'", group.subList(1, group.size()), getName(),
+						group.getFirst()));
 	}
 
-	private <T> void validate(final KnownRegistryContents<T> contents) {
+	private static <T> void validate(final LanguageTable table, final KnownRegistryContents<T> contents) {
 		final var registryName = contents.registryName;
 		final var keyFunction = contents.keyFunction;
 		final var locationFunction = contents.locationFunction;
-		contents.knownObjects.forEach(t -> validateEntry(registryName, keyFunction.apply(t), locationFunction.apply(t)));
+		contents.knownObjects.forEach(t -> validateEntry(table, registryName, keyFunction.apply(t), locationFunction.apply(t)));
 	}
 
-	private void validateEntry(final ResourceLocation registryName, final String langKey, final ResourceLocation objectName) {
-		if (!data.containsKey(langKey)) {
+	private static void validateEntry(final LanguageTable table, final ResourceLocation registryName, final String langKey,
+			final ResourceLocation objectName) {
+		if (!table.containsKey(langKey)) {
 			throw new IllegalStateException(String.format(Locale.ROOT, "Missing lang entry for '%s' in '%s'", objectName, registryName));
 		}
 	}
 
-	private CompletableFuture<?> save(final CachedOutput cache, final Path target) {
-		final var json = new JsonObject();
-		data.forEach(json::addProperty);
+	/**
+	 * Streams the already sorted table straight to bytes, hashing while writing. In the {@link JsonFormat#PRETTY} format the output is byte
+	 * identical to {@link DataProvider#saveStable(CachedOutput, com.google.gson.JsonElement, Path)} without building an intermediate json object
+	 */
+	private static CompletableFuture<?> save(final CachedOutput cache, final Path target, final LanguageTable table,
+			final JsonFormat jsonFormat) {
+		return CompletableFuture.runAsync(() -> {
+			try {
+				final var bytes = new ByteArrayOutputStream();
+				final var hashingStream = new HashingOutputStream(Hashing.sha1(), bytes);
+				try (final var jsonWriter = new JsonWriter(new OutputStreamWriter(hashingStream, StandardCharsets.UTF_8))) {
+					jsonFormat.configure(jsonWriter);
+					jsonWriter.beginObject();
+					table.forEach((key, value) -> jsonWriter.name(key).value(value));
+					jsonWriter.endObject();
+				}
 
-		return DataProvider.saveStable(cache, json, target);
+				cache.writeIfNeeded(target, bytes.toByteArray(), hashingStream.hash());
+			} catch (final IOException exception) {
+				LOGGER.error("Failed to save file to {}", target, exception);
+			}
+		}, Util.backgroundExecutor());
 	}
 
 	/**
@@ -1,11 +1,18 @@
 package mod.traister101.datagenutils.data;
 
+import mod.traister101.datagenutils.data.util.JsonFormat;
+import net.neoforged.neoforge.common.conditions.ICondition;
+
+import net.minecraft.advancements.*;
 import net.minecraft.core.HolderLookup.Provider;
-import net.minecraft.data.PackOutput;
+import net.minecraft.data.*;
 import net.minecraft.data.recipes.*;
-import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.crafting.*;
 
-import java.util.Arrays;
+import lombok.Setter;
+import org.jetbrains.annotations.Nullable;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
@@ -15,6 +22,11 @@ import java.util.stream.Stream;
 public abstract class EnhancedRecipeProvider extends RecipeProvider {
 
 	private final AdditionalRecipeProvider[] additionalRecipeProviders;
+	/**
+	 * The format recipes and their advancements are written in
+	 */
+	@Setter
+	private JsonFormat jsonFormat = JsonFormat.DEFAULT;
 
 	/**
 	 * The constructor
@@ -29,6 +41,44 @@ public abstract class EnhancedRecipeProvider extends RecipeProvider {
 		this.additionalRecipeProviders = additionalRecipeProviders;
 	}
 
+	/**
+	 * Recipes are saved by vanilla, so the output is wrapped to write them in our {@link JsonFormat}
+	 */
+	@Override
+	protected CompletableFuture<?> run(final CachedOutput output, final Provider registries) {
+		return super.run(jsonFormat.wrap(output), registries);
+	}
+
+	@Override
+	protected void buildRecipes(final RecipeOutput recipeOutput, final Provider registries) {
+		final var analyses = recipeAnalyses(registries).toList();
+		if (analyses.isEmpty()) {
+			super.buildRecipes(recipeOutput, registries);
+			return;
+		}
+
+		super.buildRecipes(new AnalyzingRecipeOutput(recipeOutput, analyses), registries);
+		analyses.forEach(RecipeAnalysis::report);
+	}
+
+	/**
+	 * Analysis stages run over every recipe this provider outputs, including additional recipes. Reported once all recipes are built
+	 *
+	 * @param registries A lookup for registries and their objects
+	 *
+	 * @return A stream of analysis stages for this run
+	 */
+	protected Stream<RecipeAnalysis> recipeAnalyses(final Provider registries) {
+		return Stream.empty();
+	}
+
+	/**
+	 * @return The additional recipe providers, so a {@link WatchProvider} re-running one can re-run this too
+	 */
+	List<AdditionalRecipeProvider> additionalRecipeProviders() {
+		return List.of(additionalRecipeProviders);
+	}
+
 	@Override
 	protected void buildRecipes(final RecipeOutput recipeOutput) {
 		super.buildRecipes(recipeOutput);
@@ -48,8 +98,45 @@ public abstract class EnhancedRecipeProvider extends RecipeProvider {
 		 * @return A stream of recipe holders.
 		 *
 		 * @implSpec Both the id and value need non-null values. {@link RecipeHolder#id()} is used as is, and {@link RecipeHolder#value()} is encoded
-		 * directly
+		 * directly. Each recipe is encoded as soon as the stream yields it, and the stream is consumed once per run. Implementations are free to
+		 * release recipes once handed off rather than keeping them for the whole run
 		 */
 		Stream<? extends RecipeHolder<?>> additionalRecipes();
 	}
+
+	/**
+	 * An analysis stage over the recipes of a provider
+	 */
+	public interface RecipeAnalysis {
+
+		/**
+		 * Accept a recipe as it's output. Recipes are accepted from a single thread
+		 *
+		 * @param id The recipe id
+		 * @param recipe The recipe
+		 */
+		void accept(ResourceLocation id, Recipe<?> recipe);
+
+		/**
+		 * Report the results of the analysis, called once all recipes have been accepted
+		 *
+		 * @throws IllegalStateException And friends when the recipes are invalid. (You shouldn't catch these, fix your code)
+		 */
+		void report() throws IllegalStateException;
+	}
+
+	private record AnalyzingRecipeOutput(RecipeOutput inner, List<RecipeAnalysis> analyses) implements RecipeOutput {
+
+		@Override
+		public void accept(final ResourceLocation id, final Recipe<?> recipe, final @Nullable AdvancementHolder advancement,
+				final ICondition... conditions) {
+			analyses.forEach(analysis -> analysis.accept(id, recipe));
+			inner.accept(id, recipe, advancement, conditions);
+		}
+
+		@Override
+		public Advancement.Builder advancement() {
+			return inner.advancement();
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,495 @@
+package mod.traister101.datagenutils.data;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+
+import net.minecraft.data.DataProvider;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * A compact table of language entries, collected straight into flat arenas instead of a map of thousands of individual {@link String}s.
+ * Keys are stored one byte per char when they fit in Latin-1 (nearly always) and two otherwise, values are stored as UTF-8.
+ * <p>
+ * While collecting entries are found through an open addressing hash index of entry ids, which catches duplicates as they're added. Once
+ * collection is done the table is {@link #freeze() frozen}: the entries are sorted and the keys front coded, each key only storing the
+ * chars it doesn't share with the key before it, restarting with a full key every {@value #BLOCK_SIZE} entries. Compact strings would
+ * already store most keys as Latin-1, so the flat arenas mostly save the per-object overhead, front coding is what shrinks the keys
+ * themselves as translation keys share long prefixes. Lookups binary search the block heads and the sorted output is a single pass over
+ * the arenas, neither needs the hash index so it's released along with the collection arenas
+ */
+final class LanguageTable {
+
+	private static final int INITIAL_ENTRIES = 64;
+	private static final int INITIAL_ARENA = 2048;
+	private static final int BLOCK_SIZE = 16;
+
+	private int size;
+	/**
+	 * Once frozen each key only stores the chars after its prefix length
+	 */
+	private byte[] keyArena = new byte[INITIAL_ARENA];
+	private int keyArenaSize;
+	private int[] keyOffsets = new int[INITIAL_ENTRIES + 1];
+	private byte[] valueArena = new byte[INITIAL_ARENA];
+	private int valueArenaSize;
+	private int[] valueOffsets = new int[INITIAL_ENTRIES + 1];
+	private int[] hashes = new int[INITIAL_ENTRIES];
+	/**
+	 * The rank of each key in {@link DataProvider#FIXED_ORDER_FIELDS}, the first part of {@link DataProvider#KEY_COMPARATOR}
+	 */
+	private byte[] ranks = new byte[INITIAL_ENTRIES];
+	private int[] sources = new int[INITIAL_ENTRIES];
+	/**
+	 * Keys with a char outside Latin-1, stored two bytes per char
+	 */
+	private BitSet wideKeys = new BitSet();
+	/**
+	 * The hash index, each slot is an entry id plus one or 0 if empty
+	 */
+	private int[] slots = new int[INITIAL_ENTRIES * 2];
+	/**
+	 * The amount of chars each key shares with the key before it, {@code null} until frozen
+	 */
+	private int[] prefixLengths;
+
+	/**
+	 * Adds an entry if the key isn't already present
+	 *
+	 * @param key The key
+	 * @param value The value
+	 * @param source The source of the entry, must not be negative
+	 *
+	 * @return -1 if added, otherwise the source of the existing entry for the key
+	 */
+	int add(final String key, final String value, final int source) {
+		ensureCollecting();
+		if ((size + 1) * 2 > slots.length) rehash(slots.length * 2);
+
+		final var hash = key.hashCode();
+		final var slot = slot(key, hash);
+		if (slots[slot] != 0) return sources[slots[slot] - 1];
+
+		ensureEntryCapacity(size + 1);
+		final var entry = size;
+		hashes[entry] = hash;
+		ranks[entry] = (byte) DataProvider.FIXED_ORDER_FIELDS.applyAsInt(key);
+		sources[entry] = source;
+
+		final var wide = !isLatin1(key);
+		if (wide) wideKeys.set(entry);
+		final var keyBytes = key.length() << (wide ? 1 : 0);
+		keyArena = ensureCapacity(keyArena, keyArenaSize + keyBytes);
+		for (var index = 0; index < key.length(); index++) {
+			final var character = key.charAt(index);
+			if (wide) {
+				keyArena[keyArenaSize++] = (byte) (character >>> 8);
+			}
+			keyArena[keyArenaSize++] = (byte) character;
+		}
+		keyOffsets[entry + 1] = keyArenaSize;
+
+		final var valueBytes = value.getBytes(StandardCharsets.UTF_8);
+		valueArena = ensureCapacity(valueArena, valueArenaSize + valueBytes.length);
+		System.arraycopy(valueBytes, 0, valueArena, valueArenaSize, valueBytes.length);
+		valueArenaSize += valueBytes.length;
+		valueOffsets[entry + 1] = valueArenaSize;
+
+		slots[slot] = entry + 1;
+		size++;
+		return -1;
+	}
+
+	/**
+	 * @return The amount of entries
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @return If there are no entries
+	 */
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Checks if the table contains the key
+	 *
+	 * @param key The key
+	 *
+	 * @return If there's an entry for the key
+	 */
+	boolean containsKey(final String key) {
+		if (prefixLengths == null) return slots[slot(key, key.hashCode())] != 0;
+		if (size == 0) return false;
+
+		// Find the last block whose head is not greater than the key
+		final var rank = (byte) DataProvider.FIXED_ORDER_FIELDS.applyAsInt(key);
+		var low = 0;
+		var high = (size - 1) / BLOCK_SIZE;
+		while (low < high) {
+			final var middle = (low + high + 1) >>> 1;
+			final var head = middle * BLOCK_SIZE;
+			final var comparison = ranks[head] != rank ? Byte.compare(ranks[head], rank) : compareFrom(head, 0, matchedLength(head, 0, key), key);
+			if (comparison <= 0) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+
+		final var start = low * BLOCK_SIZE;
+		final var end = Math.min(start + BLOCK_SIZE, size);
+		// How many chars the previous key shares with the key and how the two compare, ignoring the rank
+		var matched = 0;
+		var order = 0;
+		for (var index = start; index < end; index++) {
+			final var prefixLength = prefixLengths[index];
+			// Otherwise this key shares more with the previous key than the key does, so it compares the same as the previous key
+			if (prefixLength <= matched) {
+				matched = matchedLength(index, prefixLength, key);
+				order = compareFrom(index, prefixLength, matched, key);
+			}
+
+			final var comparison = ranks[index] != rank ? Byte.compare(ranks[index], rank) : order;
+			if (comparison == 0) return true;
+			if (comparison > 0) return false;
+		}
+		return false;
+	}
+
+	/**
+	 * Sorts the entries and front codes the keys, releasing the hash index and collection arenas. Entries can't be added once frozen.
+	 * Does nothing if already frozen
+	 */
+	void freeze() {
+		if (prefixLengths != null) return;
+
+		final var order = new int[size];
+		Arrays.setAll(order, entry -> entry);
+		IntArrays.quickSort(order, this::compareKeys);
+
+		final var frozenPrefixLengths = new int[size];
+		var frozenKeyArenaSize = 0;
+		for (var index = 0; index < size; index++) {
+			final var entry = order[index];
+			final var prefixLength = index % BLOCK_SIZE == 0 ? 0 : sharedPrefixLength(order[index - 1], entry);
+			frozenPrefixLengths[index] = prefixLength;
+			frozenKeyArenaSize += keyOffsets[entry + 1] - keyOffsets[entry] - (prefixLength << (wideKeys.get(entry) ? 1 : 0));
+		}
+
+		final var frozenKeyArena = new byte[frozenKeyArenaSize];
+		final var frozenKeyOffsets = new int[size + 1];
+		final var frozenValueArena = new byte[valueArenaSize];
+		final var frozenValueOffsets = new int[size + 1];
+		final var frozenRanks = new byte[size];
+		final var frozenWideKeys = new BitSet();
+		for (var index = 0; index < size; index++) {
+			final var entry = order[index];
+			final var wide = wideKeys.get(entry);
+			if (wide) frozenWideKeys.set(index);
+			final var keyStart = keyOffsets[entry] + (frozenPrefixLengths[index] << (wide ? 1 : 0));
+			final var keyBytes = keyOffsets[entry + 1] - keyStart;
+			System.arraycopy(keyArena, keyStart, frozenKeyArena, frozenKeyOffsets[index], keyBytes);
+			frozenKeyOffsets[index + 1] = frozenKeyOffsets[index] + keyBytes;
+
+			final var valueBytes = valueOffsets[entry + 1] - valueOffsets[entry];
+			System.arraycopy(valueArena, valueOffsets[entry], frozenValueArena, frozenValueOffsets[index], valueBytes);
+			frozenValueOffsets[index + 1] = frozenValueOffsets[index] + valueBytes;
+			frozenRanks[index] = ranks[entry];
+		}
+
+		keyArena = frozenKeyArena;
+		keyArenaSize = frozenKeyArenaSize;
+		keyOffsets = frozenKeyOffsets;
+		valueArena = frozenValueArena;
+		valueOffsets = frozenValueOffsets;
+		ranks = frozenRanks;
+		wideKeys = frozenWideKeys;
+		prefixLengths = frozenPrefixLengths;
+		hashes = null;
+		sources = null;
+		slots = null;
+	}
+
+	/**
+	 * Removes every entry, releasing the arenas
+	 */
+	void clear() {
+		size = 0;
+		keyArena = new byte[INITIAL_ARENA];
+		keyArenaSize = 0;
+		keyOffsets = new int[INITIAL_ENTRIES + 1];
+		valueArena = new byte[INITIAL_ARENA];
+		valueArenaSize = 0;
+		valueOffsets = new int[INITIAL_ENTRIES + 1];
+		hashes = new int[INITIAL_ENTRIES];
+		ranks = new byte[INITIAL_ENTRIES];
+		sources = new int[INITIAL_ENTRIES];
+		wideKeys = new BitSet();
+		slots = new int[INITIAL_ENTRIES * 2];
+		prefixLengths = null;
+	}
+
+	/**
+	 * Visits every entry in {@link DataProvider#KEY_COMPARATOR} order, freezing the table if it isn't already
+	 *
+	 * @param consumer The entry consumer
+	 *
+	 * @throws IOException If the consumer throws
+	 */
+	void forEach(final EntryConsumer consumer) throws IOException {
+		freeze();
+
+		var key = new char[64];
+		for (var index = 0; index < size; index++) {
+			final var prefixLength = prefixLengths[index];
+			final var length = prefixLength + keyLength(index);
+			if (length > key.length) key = Arrays.copyOf(key, Math.max(key.length * 2, length));
+
+			for (var position = prefixLength; position < length; position++) key[position] = keyChar(index, position - prefixLength);
+			consumer.accept(new String(key, 0, length), value(index));
+		}
+	}
+
+	/**
+	 * @return Groups of keys which only differ by case
+	 */
+	List<List<String>> caseCollisions() {
+		ensureCollecting();
+		final var foldedHashes = new int[size];
+		for (var entry = 0; entry < size; entry++) {
+			var hash = 0;
+			for (var index = 0; index < keyLength(entry); index++) hash = 31 * hash + Character.toLowerCase(keyChar(entry, index));
+			foldedHashes[entry] = hash;
+		}
+		return groups(foldedHashes, this::keysEqualIgnoringCase).stream()
+				.map(group -> Arrays.stream(group).mapToObj(this::key).toList())
+				.toList();
+	}
+
+	/**
+	 * @return Groups of keys sharing the exact same value, the value is first
+	 */
+	List<List<String>> sharedValues() {
+		ensureCollecting();
+		final var valueHashes = new int[size];
+		for (var entry = 0; entry < size; entry++) {
+			var hash = 0;
+			for (var index = valueOffsets[entry]; index < valueOffsets[entry + 1]; index++) hash = 31 * hash + valueArena[index];
+			valueHashes[entry] = hash;
+		}
+		return groups(valueHashes, this::valuesEqual).stream()
+				.map(group -> Stream.concat(Stream.of(value(group[0])), Arrays.stream(group).mapToObj(this::key)).toList())
+				.toList();
+	}
+
+	/**
+	 * Groups entries which are equal under the predicate, only comparing entries with equal hashes. Entries without an equal aren't returned
+	 */
+	private List<int[]> groups(final int[] groupHashes, final EntryPredicate equal) {
+		final var entries = new int[size];
+		Arrays.setAll(entries, entry -> entry);
+		IntArrays.quickSort(entries, (first, second) -> Integer.compare(groupHashes[first], groupHashes[second]));
+
+		final var groups = new ArrayList<int[]>();
+		final var groupedEntries = new BitSet(size);
+		for (var start = 0; start < size; ) {
+			var end = start + 1;
+			while (end < size && groupHashes[entries[end]] == groupHashes[entries[start]]) end++;
+
+			for (var first = start; first < end; first++) {
+				if (groupedEntries.get(entries[first])) continue;
+
+				IntStream.Builder group = null;
+				for (var second = first + 1; second < end; second++) {
+					if (groupedEntries.get(entries[second]) || !equal.test(entries[first], entries[second])) continue;
+
+					if (group == null) group = IntStream.builder().add(entries[first]);
+					group.add(entries[second]);
+					groupedEntries.set(entries[second]);
+				}
+				if (group != null) groups.add(group.build().toArray());
+			}
+			start = end;
+		}
+		return groups;
+	}
+
+	/**
+	 * @return The slot holding the key, or the empty slot it belongs in
+	 */
+	private int slot(final String key, final int hash) {
+		final var mask = slots.length - 1;
+		var slot = mix(hash) & mask;
+		while (slots[slot] != 0) {
+			final var entry = slots[slot] - 1;
+			if (hashes[entry] == hash && keyEquals(entry, key)) return slot;
+
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private void rehash(final int capacity) {
+		slots = new int[capacity];
+		final var mask = capacity - 1;
+		for (var entry = 0; entry < size; entry++) {
+			var slot = mix(hashes[entry]) & mask;
+			while (slots[slot] != 0) slot = (slot + 1) & mask;
+			slots[slot] = entry + 1;
+		}
+	}
+
+	private void ensureCollecting() {
+		if (prefixLengths != null) throw new IllegalStateException("The language table is frozen");
+	}
+
+	private static int mix(final int hash) {
+		final var mixed = hash * 0x9E3779B9;
+		return mixed ^ (mixed >>> 16);
+	}
+
+	private void ensureEntryCapacity(final int entries) {
+		if (entries <= hashes.length) return;
+
+		final var capacity = Math.max(hashes.length * 2, entries + 1);
+		keyOffsets = Arrays.copyOf(keyOffsets, capacity + 1);
+		valueOffsets = Arrays.copyOf(valueOffsets, capacity + 1);
+		hashes = Arrays.copyOf(hashes, capacity);
+		ranks = Arrays.copyOf(ranks, capacity);
+		sources = Arrays.copyOf(sources, capacity);
+	}
+
+	private static byte[] ensureCapacity(final byte[] arena, final int required) {
+		return required <= arena.length ? arena : Arrays.copyOf(arena, Math.max(arena.length * 2, required));
+	}
+
+	private static boolean isLatin1(final String string) {
+		for (var index = 0; index < string.length(); index++) {
+			if (string.charAt(index) > 0xFF) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return The amount of chars the keys of both entries share, both must be collected entries
+	 */
+	private int sharedPrefixLength(final int first, final int second) {
+		final var length = Math.min(keyLength(first), keyLength(second));
+		var index = 0;
+		while (index < length && keyChar(first, index) == keyChar(second, index)) index++;
+		return index;
+	}
+
+	/**
+	 * @return The amount of chars the frozen key shares with the key, which must share at least the prefix length
+	 */
+	private int matchedLength(final int index, final int prefixLength, final String key) {
+		final var length = Math.min(prefixLength + keyLength(index), key.length());
+		var position = prefixLength;
+		while (position < length && keyChar(index, position - prefixLength) == key.charAt(position)) position++;
+		return position;
+	}
+
+	/**
+	 * @return The frozen key compared to the key by {@link String#compareTo(String)}, given how many chars they share
+	 */
+	private int compareFrom(final int index, final int prefixLength, final int matched, final String key) {
+		final var length = prefixLength + keyLength(index);
+		if (matched < length && matched < key.length()) return Character.compare(keyChar(index, matched - prefixLength), key.charAt(matched));
+
+		return Integer.compare(length, key.length());
+	}
+
+	/**
+	 * Once frozen this is the length of the stored part of the key, after the prefix length
+	 */
+	private int keyLength(final int entry) {
+		return (keyOffsets[entry + 1] - keyOffsets[entry]) >> (wideKeys.get(entry) ? 1 : 0);
+	}
+
+	private char keyChar(final int entry, final int index) {
+		if (wideKeys.get(entry)) {
+			final var offset = keyOffsets[entry] + (index << 1);
+			return (char) ((keyArena[offset] & 0xFF) << 8 | keyArena[offset + 1] & 0xFF);
+		}
+		return (char) (keyArena[keyOffsets[entry] + index] & 0xFF);
+	}
+
+	private boolean keyEquals(final int entry, final String key) {
+		final var length = keyLength(entry);
+		if (length != key.length()) return false;
+
+		for (var index = 0; index < length; index++) {
+			if (keyChar(entry, index) != key.charAt(index)) return false;
+		}
+		return true;
+	}
+
+	private boolean keysEqualIgnoringCase(final int first, final int second) {
+		final var length = keyLength(first);
+		if (length != keyLength(second)) return false;
+
+		for (var index = 0; index < length; index++) {
+			if (Character.toLowerCase(keyChar(first, index)) != Character.toLowerCase(keyChar(second, index))) return false;
+		}
+		return true;
+	}
+
+	private boolean valuesEqual(final int first, final int second) {
+		return Arrays.equals(valueArena, valueOffsets[first], valueOffsets[first + 1], valueArena, valueOffsets[second],
+				valueOffsets[second + 1]);
+	}
+
+	/**
+	 * The same order as {@link DataProvider#KEY_COMPARATOR}, the fixed order rank followed by {@link String#compareTo(String)}
+	 */
+	private int compareKeys(final int first, final int second) {
+		final var rank = Byte.compare(ranks[first], ranks[second]);
+		if (rank != 0) return rank;
+
+		final var firstLength = keyLength(first);
+		final var secondLength = keyLength(second);
+		for (var index = 0; index < Math.min(firstLength, secondLength); index++) {
+			final var comparison = Character.compare(keyChar(first, index), keyChar(second, index));
+			if (comparison != 0) return comparison;
+		}
+		return Integer.compare(firstLength, secondLength);
+	}
+
+	private String key(final int entry) {
+		final var key = new char[keyLength(entry)];
+		for (var index = 0; index < key.length; index++) key[index] = keyChar(entry, index);
+		return new String(key);
+	}
+
+	private String value(final int entry) {
+		return new String(valueArena, valueOffsets[entry], valueOffsets[entry + 1] - valueOffsets[entry], StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Consumes a key value pair
+	 */
+	@FunctionalInterface
+	interface EntryConsumer {
+
+		/**
+		 * @param key The key
+		 * @param value The value
+		 *
+		 * @throws IOException If writing fails
+		 */
+		void accept(String key, String value) throws IOException;
+	}
+
+	@FunctionalInterface
+	private interface EntryPredicate {
+
+		boolean test(int first, int second);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,235 @@
+package mod.traister101.datagenutils.data;
+
+import com.google.common.hash.*;
+import com.mojang.logging.LogUtils;
+
+import net.minecraft.data.*;
+
+import org.slf4j.Logger;
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the data run alive after generation, re-running only the providers affected by a change. Providers are registered against the
+ * files or directories they read, such as {@link mod.traister101.datagenutils.data.recipe.RecipeTable} files or the compiled classes of a
+ * sub provider. The JVM stays warm between iterations, the registry lookup the providers were given is reused and caches keyed on it (like
+ * {@link mod.traister101.datagenutils.data.util.IngredientResolver}) stay populated.
+ * <p>
+ * Only active when the {@value #PROPERTY} system property is {@code true}, otherwise it does nothing. Must be added <strong>last</strong>
+ * as it blocks the data run until the JVM is stopped. Changed classes are only picked up if the IDE's hot swap has already reloaded them,
+ * watching the class output directory just tells us when to re-run.
+ * <p>
+ * Providers consuming a re-run provider are re-run after it, such as the {@link EnhancedRecipeProvider} an
+ * {@link mod.traister101.datagenutils.data.tfc.ItemHeatProvider} adds melting recipes to or the {@link EnhancedLanguageProvider} using the
+ * translations of an {@link EnhancedAdvancementProvider}. Consumers which aren't watched themselves must be registered with
+ * {@link #dependents(DataProvider...)}. Re-running a recipe provider also re-runs its additional recipe providers first, as their recipes
+ * are consumed by each run
+ * <pre>{@code
+ *  generator.addProvider(true, new WatchProvider().watch(Path.of("src/main/resources/heats.csv"), heats).dependents(recipes));
+ * }
+ * </pre>
+ */
+public final class WatchProvider implements DataProvider {
+
+	/**
+	 * The system property enabling watch mode
+	 */
+	public static final String PROPERTY = "datagenutils.watch";
+
+	private static final Logger LOGGER = LogUtils.getLogger();
+	/**
+	 * How long to wait for more changes before re-running, editors often write a file in several steps
+	 */
+	private static final long DEBOUNCE_MILLIS = 200;
+
+	private final Map<Path, Set<DataProvider>> watched = new LinkedHashMap<>();
+	private final Set<DataProvider> dependents = new LinkedHashSet<>();
+
+	/**
+	 * Re-run the providers when the file, or anything within the directory, changes
+	 *
+	 * @param path A file or directory
+	 * @param providers The providers to re-run. These should also be added to the generator as usual for the initial run
+	 *
+	 * @return This
+	 */
+	public WatchProvider watch(final Path path, final DataProvider... providers) {
+		watched.computeIfAbsent(path.toAbsolutePath().normalize(), unused -> new LinkedHashSet<>()).addAll(List.of(providers));
+		return this;
+	}
+
+	/**
+	 * Registers providers which aren't watched themselves but consume the output of watched providers, such as a recipe provider taking
+	 * additional recipes. These are re-run whenever a provider they consume is
+	 *
+	 * @param providers The consuming providers
+	 *
+	 * @return This
+	 */
+	public WatchProvider dependents(final DataProvider... providers) {
+		dependents.addAll(List.of(providers));
+		return this;
+	}
+
+	@Override
+	public CompletableFuture<?> run(final CachedOutput output) {
+		if (!Boolean.getBoolean(PROPERTY) || watched.isEmpty()) return CompletableFuture.completedFuture(null);
+
+		final var executor = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("Datagen watcher").daemon().factory());
+		return CompletableFuture.runAsync(() -> {
+			try (final var watchService = FileSystems.getDefault().newWatchService()) {
+				register(watchService);
+				LOGGER.info("Watching {} for changes", watched.keySet());
+				while (!Thread.currentThread().isInterrupted()) {
+					final var changed = new LinkedHashSet<Path>();
+					collect(watchService.take(), changed);
+					for (var key = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS); key != null;
+							key = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) {
+						collect(key, changed);
+					}
+					// New directories need watching too
+					changed.stream().filter(Files::isDirectory).forEach(directory -> registerTree(watchService, directory));
+					rerun(changed);
+				}
+			} catch (final InterruptedException exception) {
+				Thread.currentThread().interrupt();
+			} catch (final IOException exception) {
+				throw new UncheckedIOException(exception);
+			}
+		}, executor).whenComplete((unused, throwable) -> executor.shutdown());
+	}
+
+	@Override
+	public String getName() {
+		return "Watch";
+	}
+
+	private void register(final WatchService watchService) {
+		watched.keySet().forEach(path -> {
+			if (Files.isDirectory(path)) {
+				registerTree(watchService, path);
+			} else {
+				registerDirectory(watchService, path.getParent());
+			}
+		});
+	}
+
+	private static void registerTree(final WatchService watchService, final Path root) {
+		try (final var walk = Files.walk(root)) {
+			walk.filter(Files::isDirectory).forEach(directory -> registerDirectory(watchService, directory));
+		} catch (final IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	private static void registerDirectory(final WatchService watchService, final Path directory) {
+		try {
+			directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+					StandardWatchEventKinds.ENTRY_DELETE);
+		} catch (final IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	private static void collect(final WatchKey key, final Set<Path> changed) {
+		final var directory = (Path) key.watchable();
+		key.pollEvents().forEach(event -> {
+			if (event.context() instanceof final Path path) changed.add(directory.resolve(path));
+		});
+		key.reset();
+	}
+
+	private void rerun(final Set<Path> changed) {
+		final var affected = new LinkedHashSet<DataProvider>();
+		watched.forEach((path, providers) -> {
+			if (changed.stream().anyMatch(changedPath -> changedPath.startsWith(path))) affected.addAll(providers);
+		});
+		if (affected.isEmpty()) return;
+
+		final var output = new WatchOutput();
+		for (final var provider : runOrder(affected)) {
+			final var start = System.nanoTime();
+			try {
+				provider.run(output).join();
+				LOGGER.info("Re-ran {} in {} ms", provider.getName(), (System.nanoTime() - start) / 1_000_000);
+			} catch (final RuntimeException exception) {
+				// Keep watching, the next change is probably the fix
+				LOGGER.error("Failed to re-run {}", provider.getName(), exception);
+			}
+		}
+		LOGGER.info("Wrote {} changed files, {} unchanged", output.written.get(), output.unchanged.get());
+	}
+
+	/**
+	 * Adds the providers related to the affected ones which must also re-run, ordered so every provider runs after those it consumes
+	 */
+	private List<DataProvider> runOrder(final Set<DataProvider> affected) {
+		final var known = new LinkedHashSet<DataProvider>();
+		watched.values().forEach(known::addAll);
+		known.addAll(dependents);
+
+		var added = true;
+		while (added) {
+			added = false;
+			for (final var provider : known) {
+				if (affected.contains(provider)) {
+					// Their recipes were consumed by the last run, so they need to generate them again
+					if (provider instanceof final EnhancedRecipeProvider recipeProvider) {
+						for (final var additional : recipeProvider.additionalRecipeProviders()) {
+							if (additional instanceof final DataProvider dataProvider) added |= affected.add(dataProvider);
+						}
+					}
+				} else if (dependencies(provider).stream().anyMatch(affected::contains)) {
+					added |= affected.add(provider);
+				}
+			}
+		}
+
+		final var remaining = new ArrayList<>(affected);
+		final var ordered = new ArrayList<DataProvider>(remaining.size());
+		while (!remaining.isEmpty()) {
+			final var next = remaining.stream()
+					.filter(provider -> dependencies(provider).stream()
+							.noneMatch(dependency -> dependency != provider && remaining.contains(dependency)))
+					.findFirst()
+					// A cycle, there's no right order so keep the registration order
+					.orElse(remaining.getFirst());
+			remaining.remove(next);
+			ordered.add(next);
+		}
+		return ordered;
+	}
+
+	/**
+	 * @return The providers whose output the provider consumes
+	 */
+	private static List<?> dependencies(final DataProvider provider) {
+		if (provider instanceof final EnhancedRecipeProvider recipeProvider) return recipeProvider.additionalRecipeProviders();
+		if (provider instanceof final EnhancedLanguageProvider languageProvider) return languageProvider.extraLanguageProviders();
+		return List.of();
+	}
+
+	/**
+	 * Writes straight to disk, skipping files whose contents are unchanged. The vanilla hash cache only exists for the initial run
+	 */
+	private static final class WatchOutput implements CachedOutput {
+
+		private final AtomicInteger written = new AtomicInteger();
+		private final AtomicInteger unchanged = new AtomicInteger();
+
+		@Override
+		public void writeIfNeeded(final Path path, final byte[] data, final HashCode hashCode) throws IOException {
+			if (Files.isRegularFile(path) && Hashing.sha1().hashBytes(Files.readAllBytes(path)).equals(hashCode)) {
+				unchanged.incrementAndGet();
+				return;
+			}
+
+			Files.createDirectories(path.getParent());
+			Files.write(path, data);
+			written.incrementAndGet();
+		}
+	}
+}
\ No newline at end of file
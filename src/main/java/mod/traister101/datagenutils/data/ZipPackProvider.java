@@ -0,0 +1,147 @@
+package mod.traister101.datagenutils.data;
+
+import com.google.common.hash.*;
+import com.google.common.io.MoreFiles;
+
+import net.minecraft.data.*;
+import net.minecraft.data.metadata.PackMetadataGenerator;
+
+import java.io.*;
+import java.nio.file.*;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.*;
+
+/**
+ * Packs the output of other providers straight into a single zip instead of thousands of small files. The wrapped providers write into an
+ * in memory {@link CachedOutput}, once they're all done the entries are streamed to a temporary zip sorted by path with a fixed timestamp,
+ * so the zip is byte for byte stable between runs. The temporary zip only replaces the existing one when its hash differs. The zip is rooted at
+ * the pack output folder and must contain a {@code pack.mcmeta}, so one of the wrapped providers has to be a {@link PackMetadataGenerator}
+ * made with the same {@link PackOutput}. That makes the zip usable as a pack directly.
+ * <p>
+ * The wrapped providers must be made with the same {@link PackOutput} as this provider, and shouldn't also be added to the generator. They
+ * run one after another in the order they're passed, each starting once the previous has finished, so ordering requirements such as an
+ * {@link EnhancedAdvancementProvider} running before the {@link EnhancedLanguageProvider} using it are kept by passing them in that order
+ * <pre>{@code
+ *  generator.addProvider(event.includeServer(), new ZipPackProvider(packOutput, "generated", new ModRecipes(packOutput, lookup),
+ *      PackMetadataGenerator.forFeaturePack(packOutput, Component.literal("Generated recipes"))));
+ * }
+ * </pre>
+ */
+public final class ZipPackProvider implements DataProvider {
+
+	/**
+	 * The timestamp every entry uses, the earliest a zip can store
+	 */
+	private static final LocalDateTime ENTRY_TIME = LocalDateTime.of(1980, 1, 1, 0, 0);
+	private static final String PACK_METADATA = "pack.mcmeta";
+
+	private final Path root;
+	private final Path zipPath;
+	private final int compressionLevel;
+	private final List<DataProvider> providers;
+
+	/**
+	 * The constructor, using the best compression. JSON is small and repetitive so the extra effort over the default level is cheap
+	 *
+	 * @param output The pack output, shared with the wrapped providers
+	 * @param name The zip file name without extension, placed in the output folder
+	 * @param providers The providers to pack, in the order they run
+	 */
+	public ZipPackProvider(final PackOutput output, final String name, final DataProvider... providers) {
+		this(output, name, Deflater.BEST_COMPRESSION, providers);
+	}
+
+	/**
+	 * The constructor
+	 *
+	 * @param output The pack output, shared with the wrapped providers
+	 * @param name The zip file name without extension, placed in the output folder
+	 * @param compressionLevel The {@link Deflater} compression level
+	 * @param providers The providers to pack, in the order they run
+	 */
+	public ZipPackProvider(final PackOutput output, final String name, final int compressionLevel, final DataProvider... providers) {
+		this.root = output.getOutputFolder();
+		this.zipPath = root.resolve(name + ".zip");
+		this.compressionLevel = compressionLevel;
+		this.providers = List.of(providers);
+	}
+
+	@Override
+	public CompletableFuture<?> run(final CachedOutput output) {
+		final var zipOutput = new ZipCachedOutput();
+		// Run one after another like the generator does, providers such as the language provider rely on running after others
+		CompletableFuture<?> future = CompletableFuture.completedFuture(null);
+		for (final var provider : providers) {
+			future = future.thenCompose(unused -> provider.run(zipOutput));
+		}
+
+		return future.thenRun(() -> {
+			if (!zipOutput.entries.containsKey(PACK_METADATA)) {
+				throw new IllegalStateException(getName() + " has no " + PACK_METADATA + ", add a PackMetadataGenerator to the packed providers");
+			}
+
+			try {
+				Files.createDirectories(root);
+				final var tempPath = Files.createTempFile(root, zipPath.getFileName().toString(), ".tmp");
+				try {
+					final HashCode hashCode;
+					final var fileStream = new BufferedOutputStream(Files.newOutputStream(tempPath));
+					try (final var hashingStream = new HashingOutputStream(Hashing.sha1(), fileStream)) {
+						zipOutput.write(hashingStream);
+						hashCode = hashingStream.hash();
+					}
+
+					if (!Files.isRegularFile(zipPath) || !MoreFiles.asByteSource(zipPath).hash(Hashing.sha1()).equals(hashCode)) {
+						Files.move(tempPath, zipPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+					}
+					// The cache has to see the zip or it's purged as stale, but it only takes bytes. They're read back once the entries are
+					// gone, and as the zip on disk already has this hash the cache only writes them if its own record is missing
+					output.writeIfNeeded(zipPath, Files.readAllBytes(zipPath), hashCode);
+				} finally {
+					Files.deleteIfExists(tempPath);
+				}
+			} catch (final IOException exception) {
+				throw new UncheckedIOException("Failed to write " + zipPath, exception);
+			}
+		});
+	}
+
+	@Override
+	public String getName() {
+		return "Zip pack: " + root.relativize(zipPath) + " of " + providers.stream().map(DataProvider::getName).toList();
+	}
+
+	/**
+	 * Collects written files, sorted by their path in the zip
+	 */
+	private final class ZipCachedOutput implements CachedOutput {
+
+		private final NavigableMap<String, byte[]> entries = new ConcurrentSkipListMap<>();
+
+		@Override
+		public void writeIfNeeded(final Path path, final byte[] data, final HashCode hashCode) {
+			if (!path.startsWith(root)) throw new IllegalStateException(path + " is outside of the pack output " + root + ", fix your code");
+
+			final var name = root.relativize(path).toString().replace(File.separatorChar, '/');
+			if (entries.putIfAbsent(name, data) != null) throw new IllegalStateException("Duplicate zip entry " + name);
+		}
+
+		/**
+		 * Writes the entries in path order, removing each once written so the entries and the zip aren't both held in full
+		 */
+		private void write(final OutputStream outputStream) throws IOException {
+			try (final var zip = new ZipOutputStream(outputStream)) {
+				zip.setLevel(compressionLevel);
+				for (Map.Entry<String, byte[]> entry; (entry = entries.pollFirstEntry()) != null; ) {
+					final var zipEntry = new ZipEntry(entry.getKey());
+					zipEntry.setTimeLocal(ENTRY_TIME);
+					zip.putNextEntry(zipEntry);
+					zip.write(entry.getValue());
+					zip.closeEntry();
+				}
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -6,6 +6,12 @@
  * {@link mod.traister101.datagenutils.data.EnhancedLanguageProvider}
  * <p>
  * {@link mod.traister101.datagenutils.data.EnhancedRecipeProvider}
+ * <p>
+ * {@link mod.traister101.datagenutils.data.ZipPackProvider}
+ * <p>
+ * {@link mod.traister101.datagenutils.data.DataLoadProfiler}
+ * <p>
+ * {@link mod.traister101.datagenutils.data.WatchProvider}
  */
 @FieldsAreNonnullByDefault @MethodsReturnNonnullByDefault @ParametersAreNonnullByDefault
 package mod.traister101.datagenutils.data;
@@ -34,7 +34,7 @@ public abstract sealed class CraftingRecipeBuilder<B extends CraftingRecipeBuild
 	/**
 	 * The result stack
 	 */
-	protected final ItemStack result;
+	protected ItemStack result;
 	/**
 	 * The book category, usually {@link CraftingBookCategory#MISC}
 	 */
@@ -123,6 +123,35 @@ public abstract sealed class CraftingRecipeBuilder<B extends CraftingRecipeBuild
 		return new ShapedCraftingRecipeBuilder(directory, craftingBookCategory, result);
 	}
 
+	/**
+	 * Resets this builder so it can be reused for another recipe. The directory and book category are kept, everything else is cleared.
+	 * Recipes already saved are unaffected
+	 *
+	 * @param result The new result stack
+	 *
+	 * @return This
+	 */
+	@CanIgnoreReturnValue
+	public B reset(final ItemStack result) {
+		this.result = result;
+		criteria.clear();
+		group = null;
+		return self();
+	}
+
+	/**
+	 * Resets this builder so it can be reused for another recipe. See {@link #reset(ItemStack)}
+	 *
+	 * @param result The new result
+	 * @param count The new result count
+	 *
+	 * @return This
+	 */
+	@CanIgnoreReturnValue
+	public B reset(final ItemLike result, final int count) {
+		return reset(new ItemStack(result, count));
+	}
+
 	@Override
 	@CanIgnoreReturnValue
 	public B unlockedBy(final String criterionName, final Criterion<?> criterion) {
@@ -186,6 +215,13 @@ public abstract sealed class CraftingRecipeBuilder<B extends CraftingRecipeBuild
 			return self();
 		}
 
+		@Override
+		public ShapedCraftingRecipeBuilder reset(final ItemStack result) {
+			patternBuilder.reset();
+			showNotification = true;
+			return super.reset(result);
+		}
+
 		@Override
 		protected void ensureValid(final ResourceLocation recipeId) {
 			super.ensureValid(recipeId);
@@ -209,7 +245,10 @@ public abstract sealed class CraftingRecipeBuilder<B extends CraftingRecipeBuild
 	@CanIgnoreReturnValue
 	public static final class ShapelessCraftingRecipeBuilder extends CraftingRecipeBuilder<ShapelessCraftingRecipeBuilder> {
 
-		private final NonNullList<Ingredient> ingredients = NonNullList.create();
+		/**
+		 * Runs of the same ingredient, only expanded to individual ingredients once the recipe is made
+		 */
+		private final List<IngredientRun> ingredients = new ArrayList<>();
 
 		private ShapelessCraftingRecipeBuilder(final String folderName, final CraftingBookCategory craftingBookCategory, final ItemStack result) {
 			super(folderName, craftingBookCategory, result);
@@ -275,8 +314,14 @@ public abstract sealed class CraftingRecipeBuilder<B extends CraftingRecipeBuild
 		 */
 		@Contract("_, _ -> this")
 		public ShapelessCraftingRecipeBuilder requires(final Ingredient ingredient, final int quantity) {
-			for (int i = 0; i < quantity; ++i) requires(ingredient);
-
+			if (quantity <= 0) return this;
+
+			final var last = ingredients.isEmpty() ? null : ingredients.getLast();
+			if (last != null && last.ingredient() == ingredient) {
+				ingredients.set(ingredients.size() - 1, new IngredientRun(ingredient, last.count() + quantity));
+			} else {
+				ingredients.add(new IngredientRun(ingredient, quantity));
+			}
 			return this;
 		}
 
@@ -289,8 +334,13 @@ public abstract sealed class CraftingRecipeBuilder<B extends CraftingRecipeBuild
 		 */
 		@Contract("_ -> this")
 		public ShapelessCraftingRecipeBuilder requires(final Ingredient ingredient) {
-			ingredients.add(ingredient);
-			return this;
+			return requires(ingredient, 1);
+		}
+
+		@Override
+		public ShapelessCraftingRecipeBuilder reset(final ItemStack result) {
+			ingredients.clear();
+			return super.reset(result);
 		}
 
 		@Override
@@ -306,7 +356,13 @@ public abstract sealed class CraftingRecipeBuilder<B extends CraftingRecipeBuild
 
 		@Override
 		protected ShapelessRecipe recipe() {
-			return new ShapelessRecipe(group == null ? "" : group, craftingBookCategory, result, ingredients);
+			final var expanded = NonNullList.<Ingredient>createWithCapacity(ingredients.stream().mapToInt(IngredientRun::count).sum());
+			ingredients.forEach(run -> {
+				for (int i = 0; i < run.count(); ++i) expanded.add(run.ingredient());
+			});
+			return new ShapelessRecipe(group == null ? "" : group, craftingBookCategory, result, expanded);
 		}
+
+		private record IngredientRun(Ingredient ingredient, int count) {}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,377 @@
+package mod.traister101.datagenutils.data.recipe;
+
+import mod.traister101.datagenutils.data.recipe.CraftingRecipeBuilder.*;
+
+import net.minecraft.advancements.critereon.InventoryChangeTrigger;
+import net.minecraft.core.registries.*;
+import net.minecraft.data.recipes.RecipeOutput;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.crafting.Ingredient;
+
+import org.jetbrains.annotations.Contract;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Table driven recipe generation. A table is a CSV file with a header row naming the columns, every following row is one recipe. The file
+ * is memory mapped, the record boundaries are found in one pass over the mapped bytes and the rows are then parsed from them in parallel.
+ * The recipes are built and saved in file order. Tables are project data, so editing one doesn't need a recompile.
+ * <p>
+ * Values which are lists are separated by {@code ;}, pattern rows by {@code /}. Ingredients are item ids, or tag ids prefixed with
+ * {@code #}. Quoted values may contain commas and newlines. The optional {@value #ID} column sets the recipe id, otherwise the builders
+ * default id is used
+ */
+public final class RecipeTable {
+
+	/**
+	 * The optional recipe id column
+	 */
+	public static final String ID = "id";
+
+	private final List<Row> rows;
+
+	private RecipeTable(final List<Row> rows) {
+		this.rows = rows;
+	}
+
+	/**
+	 * Reads a table
+	 *
+	 * @param path The path of the CSV file
+	 *
+	 * @return The table
+	 *
+	 * @throws UncheckedIOException If the file can't be read
+	 * @throws IllegalStateException If the file is malformed. This is an error, fix your table
+	 */
+	@Contract("_ -> new")
+	public static RecipeTable read(final Path path) throws UncheckedIOException, IllegalStateException {
+		final ByteBuffer contents;
+		try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) throw new IllegalStateException("Recipe table " + path + " is too large");
+
+			// The mapping stays valid once the channel is closed
+			contents = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} catch (final IOException exception) {
+			throw new UncheckedIOException("Failed to read recipe table " + path, exception);
+		}
+
+		final var records = records(contents);
+		if (records.isEmpty()) throw new IllegalStateException("Recipe table " + path + " has no header");
+
+		final var header = parseRecord(path, contents, records.getFirst());
+		final var columns = new HashMap<String, Integer>(header.size());
+		for (var index = 0; index < header.size(); index++) {
+			if (columns.put(header.get(index).strip(), index) != null) {
+				throw new IllegalStateException("Recipe table " + path + " has duplicate column " + header.get(index));
+			}
+		}
+
+		final var rows = records.subList(1, records.size())
+				.parallelStream()
+				.filter(record -> !record.isBlank(contents))
+				.map(record -> new Row(path, record.line(), columns, parseRecord(path, contents, record)))
+				.toList();
+		return new RecipeTable(rows);
+	}
+
+	/**
+	 * Finds the record boundaries in a single pass over the mapped bytes, every delimiter is ASCII so the UTF-8 doesn't need decoding.
+	 * Newlines inside quoted values don't end a record
+	 */
+	private static List<Span> records(final ByteBuffer contents) {
+		final var records = new ArrayList<Span>();
+		// Skip the UTF-8 byte order mark some spreadsheet programs write, otherwise it ends up in the first column name
+		var start = hasByteOrderMark(contents) ? 3 : 0;
+		var line = 1;
+		var startLine = 1;
+		var quoted = false;
+		for (var index = start; index < contents.limit(); index++) {
+			final var character = contents.get(index);
+			if (character == '"') {
+				// An escaped quote toggles twice
+				quoted = !quoted;
+			} else if (character == '\n') {
+				line++;
+				if (quoted) continue;
+
+				final var end = index > start && contents.get(index - 1) == '\r' ? index - 1 : index;
+				records.add(new Span(start, end, startLine));
+				start = index + 1;
+				startLine = line;
+			}
+		}
+		if (start < contents.limit()) records.add(new Span(start, contents.limit(), startLine));
+		return records;
+	}
+
+	private static boolean hasByteOrderMark(final ByteBuffer contents) {
+		return contents.limit() >= 3 && contents.get(0) == (byte) 0xEF && contents.get(1) == (byte) 0xBB && contents.get(2) == (byte) 0xBF;
+	}
+
+	/**
+	 * Splits a CSV record straight from the mapped bytes, values can be quoted to contain commas and newlines with {@code ""} escaping a quote
+	 */
+	private static List<String> parseRecord(final Path path, final ByteBuffer contents, final Span record) {
+		final var values = new ArrayList<String>();
+		final var value = new ByteArrayOutputStream();
+		var quoted = false;
+		for (var index = record.start(); index < record.end(); index++) {
+			final var character = contents.get(index);
+			if (quoted) {
+				if (character != '"') {
+					value.write(character);
+				} else if (index + 1 < record.end() && contents.get(index + 1) == '"') {
+					value.write('"');
+					index++;
+				} else {
+					quoted = false;
+				}
+			} else if (character == '"') {
+				quoted = true;
+			} else if (character == ',') {
+				values.add(value.toString(StandardCharsets.UTF_8));
+				value.reset();
+			} else {
+				value.write(character);
+			}
+		}
+		if (quoted) throw new IllegalStateException("Unterminated quote in recipe table " + path + ":" + record.line());
+
+		values.add(value.toString(StandardCharsets.UTF_8));
+		return values;
+	}
+
+	/**
+	 * @return The rows of this table in file order
+	 */
+	public List<Row> rows() {
+		return rows;
+	}
+
+	/**
+	 * Builds and saves a recipe for every row. Builders are made in parallel and saved in file order
+	 *
+	 * @param recipeOutput The recipe output
+	 * @param mapper Makes the builder for a row, such as {@link #shaped()}
+	 *
+	 * @throws IllegalStateException If a row is invalid, the message includes the file and line. This is an error, fix your table
+	 */
+	public void save(final RecipeOutput recipeOutput, final Function<Row, ? extends SimpleRecipeBuilder> mapper) throws IllegalStateException {
+		final var builders = rows.parallelStream().map(row -> withLine(row, () -> mapper.apply(row))).toList();
+		for (var index = 0; index < rows.size(); index++) {
+			final var row = rows.get(index);
+			final var builder = builders.get(index);
+			withLine(row, () -> {
+				row.optional(ID).map(ResourceLocation::parse).ifPresentOrElse(id -> builder.save(recipeOutput, id), () -> builder.save(recipeOutput));
+				return builder;
+			});
+		}
+	}
+
+	private static <T> T withLine(final Row row, final Supplier<T> action) {
+		try {
+			return action.get();
+		} catch (final RuntimeException exception) {
+			throw new IllegalStateException(row.location() + ": " + exception.getMessage(), exception);
+		}
+	}
+
+	/**
+	 * A mapper for {@link ShapedCraftingRecipeBuilder}s. Columns: {@code result}, {@code count} (optional), {@code pattern}, {@code key} as
+	 * {@code symbol=ingredient} pairs and {@code unlocked_by} (optional, defaults to the result)
+	 *
+	 * @return A row mapper for shaped recipes
+	 */
+	public static Function<Row, ShapedCraftingRecipeBuilder> shaped() {
+		return row -> {
+			final var result = row.item("result");
+			final var builder = CraftingRecipeBuilder.shaped(result, row.integer("count", 1));
+			builder.pattern(row.pattern("pattern"));
+			for (final var entry : row.list("key")) {
+				final var separator = entry.indexOf('=');
+				if (separator != 1) throw new IllegalStateException("Key entry '" + entry + "' must be a single symbol, '=' then an ingredient");
+
+				builder.define(entry.charAt(0), ingredient(entry.substring(2)));
+			}
+			return unlockedBy(builder, row, result);
+		};
+	}
+
+	/**
+	 * A mapper for {@link ShapelessCraftingRecipeBuilder}s. Columns: {@code result}, {@code count} (optional), {@code ingredients} where an
+	 * ingredient can be repeated with a {@code *count} suffix and {@code unlocked_by} (optional, defaults to the result)
+	 *
+	 * @return A row mapper for shapeless recipes
+	 */
+	public static Function<Row, ShapelessCraftingRecipeBuilder> shapeless() {
+		return row -> {
+			final var result = row.item("result");
+			final var builder = CraftingRecipeBuilder.shapeless(result, row.integer("count", 1));
+			for (final var entry : row.list("ingredients")) {
+				final var separator = entry.lastIndexOf('*');
+				if (separator == -1) {
+					builder.requires(ingredient(entry));
+				} else {
+					builder.requires(ingredient(entry.substring(0, separator)), Integer.parseInt(entry.substring(separator + 1)));
+				}
+			}
+			return unlockedBy(builder, row, result);
+		};
+	}
+
+	private static <B extends CraftingRecipeBuilder<B>> B unlockedBy(final B builder, final Row row, final Item result) {
+		final var item = row.optional("unlocked_by").map(RecipeTable::item).orElse(result);
+		return builder.unlockedBy("has_" + BuiltInRegistries.ITEM.getKey(item).getPath(), InventoryChangeTrigger.TriggerInstance.hasItems(item));
+	}
+
+	/**
+	 * Parses an ingredient
+	 *
+	 * @param value An item id or a tag id prefixed with {@code #}
+	 *
+	 * @return The ingredient
+	 */
+	public static Ingredient ingredient(final String value) {
+		final var stripped = value.strip();
+		if (stripped.startsWith("#")) return Ingredient.of(TagKey.create(Registries.ITEM, ResourceLocation.parse(stripped.substring(1))));
+
+		return Ingredient.of(item(stripped));
+	}
+
+	/**
+	 * Parses an item
+	 *
+	 * @param value An item id
+	 *
+	 * @return The item
+	 *
+	 * @throws IllegalStateException If there's no such item
+	 */
+	public static Item item(final String value) throws IllegalStateException {
+		final var id = ResourceLocation.parse(value.strip());
+		return BuiltInRegistries.ITEM.getOptional(id).orElseThrow(() -> new IllegalStateException("Unknown item " + id));
+	}
+
+	/**
+	 * The bytes of a single CSV record
+	 *
+	 * @param start The offset of the first byte
+	 * @param end The offset after the last byte, excluding the line ending
+	 * @param line The line the record starts on
+	 */
+	private record Span(int start, int end, int line) {
+
+		private boolean isBlank(final ByteBuffer contents) {
+			for (var index = start; index < end; index++) {
+				if (!Character.isWhitespace(contents.get(index))) return false;
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * A row of a recipe table
+	 */
+	public static final class Row {
+
+		private final Path path;
+		private final int line;
+		private final Map<String, Integer> columns;
+		private final List<String> values;
+
+		private Row(final Path path, final int line, final Map<String, Integer> columns, final List<String> values) {
+			this.path = path;
+			this.line = line;
+			this.columns = columns;
+			this.values = values;
+		}
+
+		/**
+		 * @return The file and line of this row, for error reporting
+		 */
+		public String location() {
+			return path + ":" + line;
+		}
+
+		/**
+		 * @param column The column
+		 *
+		 * @return The stripped value, empty if the column or value is missing
+		 */
+		public Optional<String> optional(final String column) {
+			final var index = columns.get(column);
+			if (index == null || index >= values.size()) return Optional.empty();
+
+			final var value = values.get(index).strip();
+			return value.isEmpty() ? Optional.empty() : Optional.of(value);
+		}
+
+		/**
+		 * @param column The column
+		 *
+		 * @return The stripped value
+		 *
+		 * @throws IllegalStateException If the column or value is missing
+		 */
+		public String get(final String column) throws IllegalStateException {
+			return optional(column).orElseThrow(() -> new IllegalStateException("Missing value for column '" + column + "'"));
+		}
+
+		/**
+		 * @param column The column
+		 * @param fallback The value used if the column or value is missing
+		 *
+		 * @return The value as an int
+		 */
+		public int integer(final String column, final int fallback) {
+			return optional(column).map(Integer::parseInt).orElse(fallback);
+		}
+
+		/**
+		 * @param column The column
+		 *
+		 * @return The {@code ;} separated values, empty if the column or value is missing
+		 */
+		public List<String> list(final String column) {
+			return optional(column).stream().flatMap(value -> Arrays.stream(value.split(";"))).map(String::strip).filter(s -> !s.isEmpty()).toList();
+		}
+
+		/**
+		 * @param column The column
+		 *
+		 * @return The {@code /} separated pattern rows. Unlike other values these aren't stripped, as spaces are meaningful in patterns
+		 *
+		 * @throws IllegalStateException If the column or value is missing
+		 */
+		public String[] pattern(final String column) throws IllegalStateException {
+			get(column);
+			return values.get(columns.get(column)).split("/");
+		}
+
+		/**
+		 * @param column The column
+		 *
+		 * @return The value as an item
+		 */
+		public Item item(final String column) {
+			return RecipeTable.item(get(column));
+		}
+
+		/**
+		 * @param column The column
+		 *
+		 * @return The value as an ingredient
+		 */
+		public Ingredient ingredient(final String column) {
+			return RecipeTable.ingredient(get(column));
+		}
+	}
+}
\ No newline at end of file
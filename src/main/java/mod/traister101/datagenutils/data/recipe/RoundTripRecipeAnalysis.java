@@ -0,0 +1,61 @@
+package mod.traister101.datagenutils.data.recipe;
+
+import com.google.gson.JsonElement;
+import com.mojang.serialization.*;
+import mod.traister101.datagenutils.data.EnhancedRecipeProvider.RecipeAnalysis;
+import mod.traister101.datagenutils.data.util.RoundTrip;
+
+import net.minecraft.core.HolderLookup;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.crafting.Recipe;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Verifies every recipe decodes back to what was encoded using {@link RoundTrip}. Each recipe is verified on the common pool as it's output
+ * and only failures are kept, so recipes are still released once encoded. Every failure is reported at once. Not the background executor, as
+ * output may already be running on it and would wait on itself
+ */
+public final class RoundTripRecipeAnalysis implements RecipeAnalysis {
+
+	/**
+	 * How many recipes may be waiting to be verified at once, output waits past this rather than queueing up every recipe
+	 */
+	private static final int MAX_PENDING = Runtime.getRuntime().availableProcessors() * 4;
+
+	private final DynamicOps<JsonElement> ops;
+	private final Semaphore pending = new Semaphore(MAX_PENDING);
+	private final Queue<String> failures = new ConcurrentLinkedQueue<>();
+	private long verified;
+
+	/**
+	 * @param registries A lookup for registries and their objects, used to encode and decode recipes
+	 */
+	public RoundTripRecipeAnalysis(final HolderLookup.Provider registries) {
+		this.ops = registries.createSerializationContext(JsonOps.INSTANCE);
+	}
+
+	@Override
+	public void accept(final ResourceLocation id, final Recipe<?> recipe) {
+		pending.acquireUninterruptibly();
+		verified++;
+		CompletableFuture.runAsync(() -> {
+			try {
+				RoundTrip.verify(Recipe.CODEC, ops, recipe).ifPresent(failure -> failures.add(id + " " + failure));
+			} catch (final RuntimeException exception) {
+				failures.add(id + " failed to verify: " + exception);
+			} finally {
+				pending.release();
+			}
+		});
+	}
+
+	@Override
+	public void report() {
+		// Wait for the remaining verifications
+		pending.acquireUninterruptibly(MAX_PENDING);
+		pending.release(MAX_PENDING);
+		RoundTrip.report("recipes", verified, failures.stream().sorted().toList());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,175 @@
+package mod.traister101.datagenutils.data.recipe;
+
+import com.mojang.logging.LogUtils;
+import mod.traister101.datagenutils.data.EnhancedRecipeProvider.RecipeAnalysis;
+import mod.traister101.datagenutils.data.util.IngredientResolver;
+
+import net.minecraft.core.HolderLookup;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.crafting.*;
+
+import org.slf4j.Logger;
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * Finds {@link ShapedRecipe}s (including subclasses such as TFC's advanced shaped recipes) which can match the same crafting grid. Recipes
+ * are bucketed by their size and occupied slots, treating a pattern and its mirror the same as the crafting table does. Within a bucket
+ * recipes are indexed by the items of a single reference cell (the first occupied slot), only recipes sharing an item there can conflict and
+ * only those have every cell compared using the item sets from {@link IngredientResolver}
+ */
+public final class ShapedRecipeAnalysis implements RecipeAnalysis {
+
+	private static final Logger LOGGER = LogUtils.getLogger();
+
+	private final IngredientResolver resolver;
+	/**
+	 * Ingredients are usually shared between recipes, so each is only resolved once
+	 */
+	private final Map<Ingredient, BitSet> resolved = new IdentityHashMap<>();
+	private final Set<TagKey<Item>> unresolvedTags = new TreeSet<>(Comparator.comparing(TagKey::location));
+	private final Map<Shape, List<Pattern>> buckets = new HashMap<>();
+
+	/**
+	 * @param registries A lookup for registries and their objects, used to resolve ingredients
+	 */
+	public ShapedRecipeAnalysis(final HolderLookup.Provider registries) {
+		this.resolver = IngredientResolver.of(registries);
+	}
+
+	@Override
+	public void accept(final ResourceLocation id, final Recipe<?> recipe) {
+		if (!(recipe instanceof final ShapedRecipe shapedRecipe)) return;
+
+		final var width = shapedRecipe.getWidth();
+		final var height = shapedRecipe.getHeight();
+		final var ingredients = shapedRecipe.getIngredients();
+		final var cells = new BitSet[ingredients.size()];
+		for (var index = 0; index < cells.length; index++) {
+			final var ingredient = ingredients.get(index);
+			cells[index] = ingredient.isEmpty() ? null : resolved.computeIfAbsent(ingredient,
+					unresolved -> resolver.resolve(unresolved, unresolvedTags));
+		}
+
+		final var pattern = new Pattern(id, width, height, cells);
+		buckets.computeIfAbsent(Shape.of(pattern), shape -> new ArrayList<>()).add(pattern);
+	}
+
+	@Override
+	public void report() {
+		if (!unresolvedTags.isEmpty()) {
+			LOGGER.warn("Item tags {} couldn't be resolved, shaped recipe conflicts may be incomplete", unresolvedTags);
+		}
+
+		buckets.entrySet()
+				.parallelStream()
+				.filter(bucket -> bucket.getValue().size() > 1)
+				.flatMap(bucket -> conflicts(bucket.getKey(), bucket.getValue()))
+				.sorted()
+				.forEachOrdered(conflict -> LOGGER.warn("Shaped recipes {} conflict, which one is crafted is ambiguous", conflict));
+	}
+
+	/**
+	 * Finds the conflicts within a bucket. Patterns are indexed by the items of the reference cell in every orientation matching the canonical
+	 * shape, two patterns can only conflict if they share an item there
+	 */
+	private static Stream<String> conflicts(final Shape shape, final List<Pattern> patterns) {
+		final var reference = shape.occupied().indexOf('#');
+		if (reference < 0) return Stream.empty();
+
+		// Rows are separated by a '/'
+		final var row = reference / (shape.width() + 1);
+		final var column = reference % (shape.width() + 1);
+		final var byItem = new HashMap<Integer, List<Integer>>();
+		for (var index = 0; index < patterns.size(); index++) {
+			final var pattern = patterns.get(index);
+			for (final var mirrored : new boolean[] {false, true}) {
+				if (!Shape.occupied(pattern, mirrored).equals(shape.occupied())) continue;
+
+				final var patternIndex = index;
+				pattern.cell(row, column, mirrored).stream().forEach(item -> {
+					final var indexed = byItem.computeIfAbsent(item, unused -> new ArrayList<>());
+					// Symmetric patterns match in both orientations
+					if (indexed.isEmpty() || indexed.getLast() != patternIndex) indexed.add(patternIndex);
+				});
+			}
+		}
+
+		final var compared = new HashSet<Long>();
+		final var conflicts = new ArrayList<String>();
+		byItem.values().forEach(indexed -> {
+			for (var first = 0; first < indexed.size(); first++) {
+				for (var second = first + 1; second < indexed.size(); second++) {
+					final int firstIndex = Math.min(indexed.get(first), indexed.get(second));
+					final int secondIndex = Math.max(indexed.get(first), indexed.get(second));
+					if (firstIndex == secondIndex || !compared.add((long) firstIndex << 32 | secondIndex)) continue;
+
+					if (patterns.get(firstIndex).conflicts(patterns.get(secondIndex))) {
+						conflicts.add(patterns.get(firstIndex).id() + " and " + patterns.get(secondIndex).id());
+					}
+				}
+			}
+		});
+		return conflicts.stream();
+	}
+
+	/**
+	 * A shaped recipe's grid
+	 *
+	 * @param id The recipe id
+	 * @param width The pattern width
+	 * @param height The pattern height
+	 * @param cells The item set of each cell in row major order, {@code null} for empty cells
+	 */
+	private record Pattern(ResourceLocation id, int width, int height, BitSet[] cells) {
+
+		private BitSet cell(final int row, final int column, final boolean mirrored) {
+			return cells[row * width + (mirrored ? width - column - 1 : column)];
+		}
+
+		private boolean conflicts(final Pattern other) {
+			return conflicts(other, false) || conflicts(other, true);
+		}
+
+		private boolean conflicts(final Pattern other, final boolean mirrored) {
+			for (var row = 0; row < height; row++) {
+				for (var column = 0; column < width; column++) {
+					final var cell = cell(row, column, false);
+					final var otherCell = other.cell(row, column, mirrored);
+					if (cell == null || otherCell == null) {
+						if (cell != otherCell) return false;
+					} else if (!cell.intersects(otherCell)) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * The canonical shape of a pattern, the smaller of its occupied slots and its mirror's
+	 *
+	 * @param width The pattern width
+	 * @param height The pattern height
+	 * @param occupied The occupied slots
+	 */
+	private record Shape(int width, int height, String occupied) {
+
+		private static Shape of(final Pattern pattern) {
+			final var occupied = occupied(pattern, false);
+			final var mirrored = occupied(pattern, true);
+			return new Shape(pattern.width(), pattern.height(), occupied.compareTo(mirrored) <= 0 ? occupied : mirrored);
+		}
+
+		private static String occupied(final Pattern pattern, final boolean mirrored) {
+			return IntStream.range(0, pattern.height())
+					.mapToObj(row -> IntStream.range(0, pattern.width())
+							.mapToObj(column -> pattern.cell(row, column, mirrored) == null ? " " : "#")
+							.collect(Collectors.joining()))
+					.collect(Collectors.joining("/"));
+		}
+	}
+}
\ No newline at end of file
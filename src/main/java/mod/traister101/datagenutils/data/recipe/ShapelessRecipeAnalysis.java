@@ -0,0 +1,58 @@
+package mod.traister101.datagenutils.data.recipe;
+
+import com.google.gson.JsonElement;
+import com.mojang.logging.LogUtils;
+import com.mojang.serialization.*;
+import mod.traister101.datagenutils.data.EnhancedRecipeProvider.RecipeAnalysis;
+
+import net.minecraft.core.HolderLookup;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.crafting.*;
+
+import org.slf4j.Logger;
+import java.util.*;
+
+/**
+ * Finds {@link ShapelessRecipe}s with the same inputs. Each recipe is canonicalized into its ingredients encoded keys in sorted order, so
+ * recipes listing the same ingredients in a different order are still found. The crafting table picks whichever of these it finds first
+ */
+public final class ShapelessRecipeAnalysis implements RecipeAnalysis {
+
+	private static final Logger LOGGER = LogUtils.getLogger();
+
+	private final DynamicOps<JsonElement> ops;
+	/**
+	 * Ingredients are usually shared between recipes, so each is only encoded once
+	 */
+	private final Map<Ingredient, String> ingredientKeys = new IdentityHashMap<>();
+	private final Map<List<String>, List<ResourceLocation>> recipes = new HashMap<>();
+
+	/**
+	 * @param registries A lookup for registries and their objects, used to encode ingredients
+	 */
+	public ShapelessRecipeAnalysis(final HolderLookup.Provider registries) {
+		this.ops = registries.createSerializationContext(JsonOps.INSTANCE);
+	}
+
+	@Override
+	public void accept(final ResourceLocation id, final Recipe<?> recipe) {
+		if (!(recipe instanceof final ShapelessRecipe shapelessRecipe)) return;
+
+		final var keys = shapelessRecipe.getIngredients().stream().map(this::ingredientKey).sorted().toList();
+		recipes.computeIfAbsent(keys, canonical -> new ArrayList<>(1)).add(id);
+	}
+
+	private String ingredientKey(final Ingredient ingredient) {
+		return ingredientKeys.computeIfAbsent(ingredient, key -> Ingredient.CODEC.encodeStart(ops, key).getOrThrow().toString());
+	}
+
+	@Override
+	public void report() {
+		recipes.values()
+				.stream()
+				.filter(ids -> ids.size() > 1)
+				.map(List::toString)
+				.sorted()
+				.forEachOrdered(ids -> LOGGER.warn("Shapeless recipes {} have the same ingredients, which one is crafted is ambiguous", ids));
+	}
+}
\ No newline at end of file
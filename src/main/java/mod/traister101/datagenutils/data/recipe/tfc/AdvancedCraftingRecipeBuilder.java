@@ -34,7 +34,7 @@ public abstract sealed class AdvancedCraftingRecipeBuilder<B extends AdvancedCra
 	/**
 	 * The result {@link ItemStackProvider}
 	 */
-	protected final ItemStackProvider result;
+	protected ItemStackProvider result;
 	/**
 	 * The remainder {@link ItemStackProvider}s
 	 */
@@ -66,7 +66,7 @@ public abstract sealed class AdvancedCraftingRecipeBuilder<B extends AdvancedCra
 	@CheckReturnValue
 	@Contract("_, _, _ -> new")
 	public static AdvancedShapedRecipeBuilder shaped(final ItemLike result, final int count, final ItemStackModifier... modifiers) {
-		return shaped(CraftingRecipeBuilder.DEFAULT_DIRECTORY, ItemStackProvider.of(new ItemStack(result, count), modifiers));
+		return shaped(CraftingRecipeBuilder.DEFAULT_DIRECTORY, ItemStackProviders.of(new ItemStack(result, count), modifiers));
 	}
 
 	/**
@@ -97,7 +97,7 @@ public abstract sealed class AdvancedCraftingRecipeBuilder<B extends AdvancedCra
 	@CheckReturnValue
 	@Contract("_, _, _ -> new")
 	public static AdvancedShapelessRecipeBuilder shapeless(final ItemLike result, final int count, final ItemStackModifier... modifiers) {
-		return shapeless(CraftingRecipeBuilder.DEFAULT_DIRECTORY, ItemStackProvider.of(new ItemStack(result, count), modifiers));
+		return shapeless(CraftingRecipeBuilder.DEFAULT_DIRECTORY, ItemStackProviders.of(new ItemStack(result, count), modifiers));
 	}
 
 	/**
@@ -114,6 +114,36 @@ public abstract sealed class AdvancedCraftingRecipeBuilder<B extends AdvancedCra
 		return new AdvancedShapelessRecipeBuilder(directory, result);
 	}
 
+	/**
+	 * Resets this builder so it can be reused for another recipe. The directory is kept, everything else is cleared. Recipes already saved
+	 * are unaffected
+	 *
+	 * @param result The new result
+	 *
+	 * @return The builder object
+	 */
+	@CanIgnoreReturnValue
+	public B reset(final ItemStackProvider result) {
+		this.result = result;
+		remainder.clear();
+		criteria.clear();
+		return self();
+	}
+
+	/**
+	 * Resets this builder so it can be reused for another recipe. See {@link #reset(ItemStackProvider)}
+	 *
+	 * @param result The new result
+	 * @param count The new result count
+	 * @param modifiers The modifiers as a var arg
+	 *
+	 * @return The builder object
+	 */
+	@CanIgnoreReturnValue
+	public B reset(final ItemLike result, final int count, final ItemStackModifier... modifiers) {
+		return reset(ItemStackProviders.of(new ItemStack(result, count), modifiers));
+	}
+
 	@Override
 	@CanIgnoreReturnValue
 	public B unlockedBy(final String criterionName, final Criterion<?> criterion) {
@@ -246,6 +276,15 @@ public abstract sealed class AdvancedCraftingRecipeBuilder<B extends AdvancedCra
 			return define(symbol, ingredient);
 		}
 
+		@Override
+		public AdvancedShapedRecipeBuilder reset(final ItemStackProvider result) {
+			patternBuilder.reset();
+			showNotification = true;
+			inputRow = 0;
+			inputColumn = 0;
+			return super.reset(result);
+		}
+
 		@Override
 		protected void ensureValid(final ResourceLocation recipeId) {
 			super.ensureValid(recipeId);
@@ -271,8 +310,7 @@ public abstract sealed class AdvancedCraftingRecipeBuilder<B extends AdvancedCra
 
 		@Override
 		protected Recipe<?> recipe() {
-			final var remainderProvider = remainder.isEmpty() ? null : ItemStackProvider.of(remainder.toArray(ItemStackModifier[]::new));
-			return new AdvancedShapedRecipe(patternBuilder.build(), showNotification, result, Optional.ofNullable(remainderProvider), inputRow,
+			return new AdvancedShapedRecipe(patternBuilder.build(), showNotification, result, ItemStackProviders.remainder(remainder), inputRow,
 					inputColumn);
 		}
 	}
@@ -383,6 +421,13 @@ public abstract sealed class AdvancedCraftingRecipeBuilder<B extends AdvancedCra
 			return this;
 		}
 
+		@Override
+		public AdvancedShapelessRecipeBuilder reset(final ItemStackProvider result) {
+			ingredients.clear();
+			primaryIngredient = null;
+			return super.reset(result);
+		}
+
 		@Override
 		protected void ensureValid(final ResourceLocation recipeId) {
 			super.ensureValid(recipeId);
@@ -399,8 +444,7 @@ public abstract sealed class AdvancedCraftingRecipeBuilder<B extends AdvancedCra
 		@Override
 		protected Recipe<?> recipe() {
 			assert primaryIngredient != null : "How has this happened?";
-			final var remainderProvider = remainder.isEmpty() ? null : ItemStackProvider.of(remainder.toArray(ItemStackModifier[]::new));
-			return new AdvancedShapelessRecipe(NonNullList.copyOf(ingredients), result, Optional.ofNullable(remainderProvider),
+			return new AdvancedShapelessRecipe(NonNullList.copyOf(ingredients), result, ItemStackProviders.remainder(remainder),
 					Optional.of(primaryIngredient));
 		}
 	}
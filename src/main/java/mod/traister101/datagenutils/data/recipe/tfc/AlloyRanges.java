@@ -0,0 +1,92 @@
+package mod.traister101.datagenutils.data.recipe.tfc;
+
+import net.dries007.tfc.util.AlloyRange;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.level.material.Fluid;
+
+import org.jetbrains.annotations.Nullable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interval checks for {@link AlloyRange}s. An alloy is a point on the simplex (every fraction sums to 1) so a set of ranges is only
+ * satisfiable when the simplex intersects the box the ranges describe, which is exactly when the minimums sum to at most 1 and the maximums
+ * sum to at least 1.
+ */
+final class AlloyRanges {
+
+	private static final double EPSILON = 1e-6;
+	private static final Map<List<AlloyRange>, Optional<String>> VALIDATED = new ConcurrentHashMap<>();
+
+	private AlloyRanges() {}
+
+	/**
+	 * Checks that the ranges can be satisfied by at least one alloy. Results are cached for identical range lists
+	 *
+	 * @param ranges The alloy ranges
+	 *
+	 * @return A description of the problem or {@code null} if the ranges are valid
+	 */
+	@Nullable
+	static String validate(final List<AlloyRange> ranges) {
+		return VALIDATED.computeIfAbsent(List.copyOf(ranges), AlloyRanges::solve).orElse(null);
+	}
+
+	/**
+	 * Checks if a single alloy could satisfy both range lists. Any fluid missing from a list is treated as the range [0, 0]
+	 *
+	 * @param first The first range list
+	 * @param second The second range list
+	 *
+	 * @return If the ranges overlap
+	 */
+	static boolean overlaps(final List<AlloyRange> first, final List<AlloyRange> second) {
+		final var firstRanges = byFluid(first);
+		final var secondRanges = byFluid(second);
+		final var fluids = new HashSet<>(firstRanges.keySet());
+		fluids.addAll(secondRanges.keySet());
+
+		double minSum = 0;
+		double maxSum = 0;
+		for (final var fluid : fluids) {
+			final var firstRange = firstRanges.get(fluid);
+			final var secondRange = secondRanges.get(fluid);
+			final double min = Math.max(firstRange == null ? 0 : firstRange.min(), secondRange == null ? 0 : secondRange.min());
+			final double max = Math.min(firstRange == null ? 0 : firstRange.max(), secondRange == null ? 0 : secondRange.max());
+			if (min > max + EPSILON) return false;
+
+			minSum += min;
+			maxSum += max;
+		}
+
+		return minSum <= 1 + EPSILON && maxSum >= 1 - EPSILON;
+	}
+
+	private static Optional<String> solve(final List<AlloyRange> ranges) {
+		final var fluids = new HashSet<Fluid>();
+		double minSum = 0;
+		double maxSum = 0;
+		for (final var range : ranges) {
+			if (!fluids.add(range.fluid())) return Optional.of("has multiple ranges for " + BuiltInRegistries.FLUID.getKey(range.fluid()));
+
+			if (range.min() < 0 || range.max() > 1 || range.min() > range.max()) {
+				return Optional.of("has an invalid range " + range + ", ranges must be within [0, 1] with min <= max");
+			}
+
+			minSum += range.min();
+			maxSum += range.max();
+		}
+
+		if (minSum > 1 + EPSILON) return Optional.of("can never be made, the minimums sum to " + minSum + " which is over 1");
+		if (maxSum < 1 - EPSILON) return Optional.of("can never be made, the maximums sum to " + maxSum + " which is under 1");
+
+		return Optional.empty();
+	}
+
+	private static Map<Fluid, AlloyRange> byFluid(final List<AlloyRange> ranges) {
+		final var map = new HashMap<Fluid, AlloyRange>(ranges.size());
+		ranges.forEach(range -> map.put(range.fluid(), range));
+		return map;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package mod.traister101.datagenutils.data.recipe.tfc;
+
+import com.mojang.logging.LogUtils;
+import mod.traister101.datagenutils.data.EnhancedRecipeProvider.RecipeAnalysis;
+import net.dries007.tfc.common.recipes.AlloyRecipe;
+import net.dries007.tfc.util.AlloyRange;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.crafting.Recipe;
+
+import org.slf4j.Logger;
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * Validates every {@link AlloyRecipe} a provider outputs. Alloys which can never be made are an error, alloys which overlap (a single mix of
+ * metals satisfies both) are reported as TFC's alloy lookup will pick whichever it finds first
+ */
+public final class AlloyRecipeAnalysis implements RecipeAnalysis {
+
+	private static final Logger LOGGER = LogUtils.getLogger();
+
+	private final List<Alloy> alloys = new ArrayList<>();
+
+	@Override
+	public void accept(final ResourceLocation id, final Recipe<?> recipe) {
+		if (recipe instanceof final AlloyRecipe alloyRecipe) alloys.add(new Alloy(id, alloyRecipe.contents()));
+	}
+
+	@Override
+	public void report() {
+		final var invalid = alloys.parallelStream().<String>mapMulti((alloy, consumer) -> {
+			final var error = AlloyRanges.validate(alloy.ranges());
+			if (error != null) consumer.accept(alloy.id() + " " + error);
+		}).toList();
+
+		if (!invalid.isEmpty()) throw new IllegalStateException("Invalid alloys:\n" + String.join("\n", invalid));
+
+		IntStream.range(0, alloys.size())
+				.parallel()
+				.boxed()
+				.flatMap(first -> IntStream.range(first + 1, alloys.size())
+						.filter(second -> AlloyRanges.overlaps(alloys.get(first).ranges(), alloys.get(second).ranges()))
+						.mapToObj(second -> alloys.get(first).id() + " and " + alloys.get(second).id()))
+				.sorted()
+				.forEachOrdered(overlap -> LOGGER.warn("Alloys {} overlap, which one is made is ambiguous", overlap));
+	}
+
+	private record Alloy(ResourceLocation id, List<AlloyRange> ranges) {}
+}
\ No newline at end of file
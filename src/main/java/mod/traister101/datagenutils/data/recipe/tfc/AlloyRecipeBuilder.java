@@ -42,6 +42,10 @@ public final class AlloyRecipeBuilder extends SimpleRecipeBuilder {
 		if (contents.isEmpty()) {
 			throw new IllegalStateException(recipeId + " must have contents");
 		}
+		final var error = AlloyRanges.validate(contents);
+		if (error != null) {
+			throw new IllegalStateException(recipeId + " " + error);
+		}
 	}
 
 	@Override
@@ -22,7 +22,7 @@ public abstract class AnvilRecipeBuilder extends SimpleRecipeBuilder {
 	public static final String DEFAULT_WELDING_DIR = "welding";
 	public static final String DEFAULT_WORKING_DIR = "anvil";
 
-	protected final ItemStackProvider output;
+	protected ItemStackProvider output;
 
 	protected AnvilRecipeBuilder(final String directory, final ItemStackProvider output) {
 		super(directory);
@@ -31,7 +31,7 @@ public abstract class AnvilRecipeBuilder extends SimpleRecipeBuilder {
 
 	@CheckReturnValue
 	public static AnvilWeldingRecipeBuilder welding(final ItemLike item, final int count, final ItemStackModifier... modifiers) {
-		return welding(DEFAULT_WELDING_DIR, ItemStackProvider.of(new ItemStack(item, count), modifiers));
+		return welding(DEFAULT_WELDING_DIR, ItemStackProviders.of(new ItemStack(item, count), modifiers));
 	}
 
 	@CheckReturnValue
@@ -41,7 +41,7 @@ public abstract class AnvilRecipeBuilder extends SimpleRecipeBuilder {
 
 	@CheckReturnValue
 	public static AnvilWorkingRecipeBuilder working(final ItemLike item, final int count, final ItemStackModifier... modifiers) {
-		return working(DEFAULT_WORKING_DIR, ItemStackProvider.of(new ItemStack(item, count), modifiers));
+		return working(DEFAULT_WORKING_DIR, ItemStackProviders.of(new ItemStack(item, count), modifiers));
 	}
 
 	@CheckReturnValue
@@ -76,6 +76,38 @@ public abstract class AnvilRecipeBuilder extends SimpleRecipeBuilder {
 			super(directory, output);
 		}
 
+		/**
+		 * Resets this builder so it can be reused for another recipe. The directory is kept, everything else is cleared. Recipes already saved
+		 * are unaffected
+		 *
+		 * @param output The new output
+		 *
+		 * @return This
+		 */
+		@CanIgnoreReturnValue
+		public AnvilWeldingRecipeBuilder reset(final ItemStackProvider output) {
+			this.output = output;
+			firstInput = null;
+			secondInput = null;
+			tier = 0;
+			bonus = null;
+			return this;
+		}
+
+		/**
+		 * Resets this builder so it can be reused for another recipe. See {@link #reset(ItemStackProvider)}
+		 *
+		 * @param item The new output item
+		 * @param count The new output count
+		 * @param modifiers The modifiers as a var arg
+		 *
+		 * @return This
+		 */
+		@CanIgnoreReturnValue
+		public AnvilWeldingRecipeBuilder reset(final ItemLike item, final int count, final ItemStackModifier... modifiers) {
+			return reset(ItemStackProviders.of(new ItemStack(item, count), modifiers));
+		}
+
 		@CanIgnoreReturnValue
 		public AnvilWeldingRecipeBuilder copper() {
 			return tier(Metal.COPPER.tier());
@@ -150,7 +182,39 @@ public abstract class AnvilRecipeBuilder extends SimpleRecipeBuilder {
 
 		@Override
 		protected Recipe<?> recipe() {
-			return new AnvilRecipe(input, minTier, rules, applyForgingBonus, output);
+			return new AnvilRecipe(input, minTier, List.copyOf(rules), applyForgingBonus, output);
+		}
+
+		/**
+		 * Resets this builder so it can be reused for another recipe. The directory is kept, everything else is cleared. Recipes already saved
+		 * are unaffected
+		 *
+		 * @param output The new output
+		 *
+		 * @return This
+		 */
+		@CanIgnoreReturnValue
+		public AnvilWorkingRecipeBuilder reset(final ItemStackProvider output) {
+			this.output = output;
+			rules.clear();
+			input = null;
+			minTier = 0;
+			applyForgingBonus = false;
+			return this;
+		}
+
+		/**
+		 * Resets this builder so it can be reused for another recipe. See {@link #reset(ItemStackProvider)}
+		 *
+		 * @param item The new output item
+		 * @param count The new output count
+		 * @param modifiers The modifiers as a var arg
+		 *
+		 * @return This
+		 */
+		@CanIgnoreReturnValue
+		public AnvilWorkingRecipeBuilder reset(final ItemLike item, final int count, final ItemStackModifier... modifiers) {
+			return reset(ItemStackProviders.of(new ItemStack(item, count), modifiers));
 		}
 
 		@CanIgnoreReturnValue
@@ -0,0 +1,51 @@
+package mod.traister101.datagenutils.data.recipe.tfc;
+
+import net.dries007.tfc.common.recipes.outputs.*;
+
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.world.item.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An interning pool for the {@link ItemStackProvider}s our builders make. Most recipes share a handful of outputs and modifier chains such
+ * as {@link DamageCraftingRemainderModifier}, so equal providers are only made once and shared between recipes. Only providers made by
+ * the builders themselves are pooled, providers passed in are used as is
+ */
+final class ItemStackProviders {
+
+	private static final Map<Key, ItemStackProvider> PROVIDERS = new ConcurrentHashMap<>();
+	private static final Map<List<ItemStackModifier>, ItemStackProvider> REMAINDERS = new ConcurrentHashMap<>();
+
+	private ItemStackProviders() {}
+
+	/**
+	 * Gets the shared provider for the stack and modifiers
+	 *
+	 * @param stack The stack, not modified or kept
+	 * @param modifiers The modifiers
+	 *
+	 * @return A shared provider equal to {@link ItemStackProvider#of(ItemStack, ItemStackModifier...)}
+	 */
+	static ItemStackProvider of(final ItemStack stack, final ItemStackModifier... modifiers) {
+		final var key = new Key(stack.getItem(), stack.getCount(), stack.getComponentsPatch(), List.of(modifiers));
+		return PROVIDERS.computeIfAbsent(key, unused -> ItemStackProvider.of(stack.copy(), modifiers));
+	}
+
+	/**
+	 * Gets the shared provider for a remainder modifier chain
+	 *
+	 * @param modifiers The modifiers, copied
+	 *
+	 * @return A shared provider equal to {@link ItemStackProvider#of(ItemStackModifier...)} or empty if there are no modifiers
+	 */
+	static Optional<ItemStackProvider> remainder(final List<ItemStackModifier> modifiers) {
+		if (modifiers.isEmpty()) return Optional.empty();
+
+		return Optional.of(REMAINDERS.computeIfAbsent(List.copyOf(modifiers),
+				chain -> ItemStackProvider.of(chain.toArray(ItemStackModifier[]::new))));
+	}
+
+	private record Key(Item item, int count, DataComponentPatch components, List<ItemStackModifier> modifiers) {}
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package mod.traister101.datagenutils.data.recipe.tfc;
+
+import mod.traister101.datagenutils.data.recipe.RecipeTable;
+import mod.traister101.datagenutils.data.recipe.RecipeTable.Row;
+import mod.traister101.datagenutils.data.recipe.tfc.AnvilRecipeBuilder.*;
+import net.dries007.tfc.common.component.forge.ForgeRule;
+import net.dries007.tfc.common.recipes.WeldingRecipe.Behavior;
+import net.dries007.tfc.util.*;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.material.Fluid;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * {@link RecipeTable} row mappers for TFC's recipe builders
+ */
+public final class TFCRecipeTable {
+
+	private TFCRecipeTable() {}
+
+	/**
+	 * A mapper for {@link AnvilWorkingRecipeBuilder}s. Columns: {@code result}, {@code count} (optional), {@code input}, {@code tier}
+	 * (optional), {@code rules} as {@link ForgeRule} names and {@code bonus} (optional, {@code true} to apply the forging bonus)
+	 *
+	 * @return A row mapper for anvil working recipes
+	 */
+	public static Function<Row, AnvilWorkingRecipeBuilder> anvil() {
+		return row -> {
+			final var builder = AnvilRecipeBuilder.working(row.item("result"), row.integer("count", 1))
+					.input(row.ingredient("input"))
+					.minTier(row.integer("tier", 0));
+			row.list("rules").forEach(rule -> builder.rule(ForgeRule.valueOf(rule.toUpperCase(Locale.ROOT))));
+			if (row.optional("bonus").map(Boolean::parseBoolean).orElse(false)) builder.applyForgingBonus();
+			return builder;
+		};
+	}
+
+	/**
+	 * A mapper for {@link AnvilWeldingRecipeBuilder}s. Columns: {@code result}, {@code count} (optional), {@code first}, {@code second},
+	 * {@code tier} (optional) and {@code bonus} as a {@link Behavior} name
+	 *
+	 * @return A row mapper for anvil welding recipes
+	 */
+	public static Function<Row, AnvilWeldingRecipeBuilder> welding() {
+		return row -> AnvilRecipeBuilder.welding(row.item("result"), row.integer("count", 1))
+				.firstInput(row.ingredient("first"))
+				.secondInput(row.ingredient("second"))
+				.tier(row.integer("tier", 0))
+				.bonus(Behavior.valueOf(row.get("bonus").toUpperCase(Locale.ROOT)));
+	}
+
+	/**
+	 * A mapper for {@link KnappingRecipeBuilder}s. Columns: {@code type} (a knapping type id, TFC's namespace is assumed without one),
+	 * {@code result}, {@code count} (optional), {@code pattern} and {@code ingredient} (optional)
+	 *
+	 * @return A row mapper for knapping recipes
+	 */
+	public static Function<Row, KnappingRecipeBuilder> knapping() {
+		return row -> {
+			final var type = row.get("type");
+			final var builder = KnappingRecipeBuilder.knapping(type.indexOf(':') == -1 ? Helpers.identifier(type) : ResourceLocation.parse(type),
+					new ItemStack(row.item("result"), row.integer("count", 1))).pattern(row.pattern("pattern"));
+			row.optional("ingredient").map(RecipeTable::ingredient).ifPresent(builder::ingredient);
+			return builder;
+		};
+	}
+
+	/**
+	 * A mapper for {@link AlloyRecipeBuilder}s. Columns: {@code result} (a fluid id) and {@code contents} as {@code fluid=min-max} entries,
+	 * the min and max may use exponents such as {@code 1e-3}
+	 *
+	 * @return A row mapper for alloy recipes
+	 */
+	public static Function<Row, AlloyRecipeBuilder> alloy() {
+		return row -> {
+			final var builder = AlloyRecipeBuilder.of(fluid(row.get("result")));
+			for (final var entry : row.list("contents")) {
+				final var separator = entry.indexOf('=');
+				final var range = separator == -1 ? -1 : rangeSeparator(entry, separator + 1);
+				if (range == -1) throw new IllegalStateException("Alloy content '" + entry + "' must be fluid=min-max");
+
+				builder.contents(new AlloyRange(fluid(entry.substring(0, separator)), Double.parseDouble(entry.substring(separator + 1, range)),
+						Double.parseDouble(entry.substring(range + 1))));
+			}
+			return builder;
+		};
+	}
+
+	/**
+	 * Finds the {@code -} between the min and max, skipping a leading sign and the sign of an exponent such as {@code 1e-3}
+	 */
+	private static int rangeSeparator(final String entry, final int from) {
+		for (var index = from + 1; index < entry.length(); index++) {
+			if (entry.charAt(index) != '-') continue;
+
+			final var previous = entry.charAt(index - 1);
+			if (previous != 'e' && previous != 'E') return index;
+		}
+		return -1;
+	}
+
+	private static Fluid fluid(final String value) {
+		final var id = ResourceLocation.parse(value.strip());
+		return BuiltInRegistries.FLUID.getOptional(id).orElseThrow(() -> new IllegalStateException("Unknown fluid " + id));
+	}
+}
\ No newline at end of file
@@ -1,16 +1,28 @@
 package mod.traister101.datagenutils.data.tfc;
 
 import com.google.common.collect.ImmutableMap;
+import com.mojang.logging.LogUtils;
+import com.mojang.serialization.JsonOps;
+import mod.traister101.datagenutils.data.util.*;
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.util.data.DataManager;
+import net.neoforged.neoforge.registries.*;
 
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.HolderLookup.Provider;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.data.*;
 import net.minecraft.resources.ResourceLocation;
-
-import java.util.Map;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.crafting.Ingredient;
+
+import lombok.Setter;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Copy and paste of TFC's DataManagerProvider that isn't currently shipped in the mod
@@ -19,12 +31,25 @@ import java.util.concurrent.CompletableFuture;
  */
 public abstract class DataManagerProvider<T> implements DataProvider {
 
+	private static final Logger LOGGER = LogUtils.getLogger();
+
 	protected final CompletableFuture<?> contentDone;
 	protected final String modid;
 	private final DataManager<T> manager;
 	private final CompletableFuture<HolderLookup.Provider> lookup;
-	private final ImmutableMap.Builder<ResourceLocation, T> elements;
+	private ImmutableMap.Builder<ResourceLocation, T> elements;
 	private final PackOutput.PathProvider path;
+	/**
+	 * The format entries are written in
+	 */
+	@Setter
+	private JsonFormat jsonFormat = JsonFormat.DEFAULT;
+	/**
+	 * The executor files are written on, {@code null} to write on the background executor
+	 */
+	@Setter
+	@Nullable
+	private WriteExecutor writeExecutor;
 
 	protected DataManagerProvider(final DataManager<T> manager, final PackOutput output, final String modid,
 			final CompletableFuture<Provider> lookup) {
@@ -39,14 +64,24 @@ public abstract class DataManagerProvider<T> implements DataProvider {
 	@Override
 	public CompletableFuture<?> run(final CachedOutput output) {
 		return beforeRun().thenCompose(provider -> {
+			// Start fresh so the provider can be run again, such as by a WatchProvider
+			elements = ImmutableMap.builder();
 			addData(provider);
 			final Map<ResourceLocation, T> map = elements.buildOrThrow();
 			manager.bindValues(map);
+			analyze(provider, map);
+			if (verifyRoundTrip()) {
+				RoundTrip.verifyAll("entries of " + getName(), manager.codec(), provider.createSerializationContext(JsonOps.INSTANCE), map);
+			}
 			contentDone.complete(null);
-			return CompletableFuture.allOf(map.entrySet()
+			final var saved = CompletableFuture.allOf(map.entrySet()
 					.stream()
-					.map(e -> DataProvider.saveStable(output, provider, manager.codec(), e.getValue(), path.json(e.getKey())))
+					.map(e -> jsonFormat.save(output, provider, manager.codec(), e.getValue(), path.json(e.getKey()), writeExecutor))
 					.toArray(CompletableFuture[]::new));
+			if (writeExecutor == null) return saved;
+
+			final var executor = writeExecutor;
+			return saved.thenRun(() -> LOGGER.info("{} done writing, write executor: {}", getName(), executor.metrics().summary()));
 		});
 	}
 
@@ -78,6 +113,102 @@ public abstract class DataManagerProvider<T> implements DataProvider {
 
 	protected abstract void addData(final HolderLookup.Provider provider);
 
+	/**
+	 * The item registers this manager is expected to cover. Any item in these registers which isn't matched by the ingredient of at least one
+	 * entry is reported once the data has been added. Typically only useful for managers such as item size or heat which every item should have
+	 *
+	 * @return A stream of item registers to check coverage for
+	 */
+	protected Stream<DeferredRegister<Item>> coverage() {
+		return Stream.empty();
+	}
+
+	/**
+	 * The ingredient an entry applies to, used to determine coverage and ambiguity
+	 *
+	 * @param value The entry
+	 *
+	 * @return The ingredient or {@code null} if the managed type doesn't apply to items
+	 */
+	@Nullable
+	protected Ingredient ingredient(final T value) {
+		return null;
+	}
+
+	/**
+	 * If entries matching the same item should be reported. TFC resolves the entry for an item by checking each entry in turn so
+	 * overlapping entries make the result depend on load order
+	 *
+	 * @return If overlapping entries should be reported
+	 */
+	protected boolean reportAmbiguity() {
+		return false;
+	}
+
+	/**
+	 * If every entry should be verified to decode back to what was encoded before being saved. Done in parallel, cheap enough to leave on in
+	 * CI
+	 *
+	 * @return If entries should be verified
+	 */
+	protected boolean verifyRoundTrip() {
+		return false;
+	}
+
+	private void analyze(final HolderLookup.Provider provider, final Map<ResourceLocation, T> values) {
+		final var registers = coverage().toList();
+		final var ambiguity = reportAmbiguity();
+		if (registers.isEmpty() && !ambiguity) return;
+
+		// Expand every ingredient once, both reports share the expanded item sets
+		final var resolver = IngredientResolver.of(provider);
+		final var resolved = new LinkedHashMap<ResourceLocation, BitSet>(values.size());
+		final var unresolvedTags = new TreeSet<TagKey<Item>>(Comparator.comparing(TagKey::location));
+		values.forEach((id, value) -> {
+			final var ingredient = ingredient(value);
+			if (ingredient != null) resolved.put(id, resolver.resolve(ingredient, unresolvedTags));
+		});
+		if (!unresolvedTags.isEmpty()) {
+			LOGGER.warn("Item tags {} couldn't be resolved, reports for {} may be incomplete", unresolvedTags, getName());
+		}
+
+		if (!registers.isEmpty()) reportCoverage(registers, resolved.values());
+		if (ambiguity) reportAmbiguity(resolved);
+	}
+
+	private void reportCoverage(final List<DeferredRegister<Item>> registers, final Collection<BitSet> resolved) {
+		final var covered = new BitSet(BuiltInRegistries.ITEM.size());
+		resolved.forEach(covered::or);
+
+		for (final var register : registers) {
+			final var missing = register.getEntries()
+					.stream()
+					.filter(holder -> !covered.get(BuiltInRegistries.ITEM.getId(holder.get())))
+					.map(DeferredHolder::getId)
+					.toList();
+			if (missing.isEmpty()) continue;
+
+			LOGGER.warn("{} has no entry for {} item(s) in {}: {}", getName(), missing.size(), register.getNamespace(), missing);
+		}
+	}
+
+	private void reportAmbiguity(final Map<ResourceLocation, BitSet> resolved) {
+		// Inverted index of item -> entries matching it, linear in the total number of matched items
+		final var index = new HashMap<Integer, List<ResourceLocation>>();
+		resolved.forEach((id, bits) -> bits.stream().forEach(item -> index.computeIfAbsent(item, key -> new ArrayList<>(1)).add(id)));
+
+		// Group the items by the entries which overlap so tag overlaps are reported once
+		final var overlaps = new LinkedHashMap<List<ResourceLocation>, List<ResourceLocation>>();
+		index.forEach((item, ids) -> {
+			if (ids.size() < 2) return;
+
+			overlaps.computeIfAbsent(ids, key -> new ArrayList<>()).add(BuiltInRegistries.ITEM.getKey(BuiltInRegistries.ITEM.byId(item)));
+		});
+
+		overlaps.forEach((ids, overlapping) -> LOGGER.warn("{} has entries {} which all match {} item(s): {}", getName(), ids, overlapping.size(),
+				overlapping));
+	}
+
 	protected abstract class DataBuilder {
 
 		protected final void add(final String name) {
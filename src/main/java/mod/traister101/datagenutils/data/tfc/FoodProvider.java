@@ -18,6 +18,11 @@ public abstract class FoodProvider extends DataManagerProvider<FoodDefinition> {
 		super(FoodCapability.MANAGER, output, modid, lookup);
 	}
 
+	@Override
+	protected Ingredient ingredient(final FoodDefinition value) {
+		return value.ingredient();
+	}
+
 	/**
 	 * @param item The item
 	 * @param foodData The food data
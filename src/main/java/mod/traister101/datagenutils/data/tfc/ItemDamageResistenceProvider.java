@@ -18,6 +18,11 @@ public abstract class ItemDamageResistenceProvider extends DataManagerProvider<I
 		super(ItemDamageResistance.MANAGER, output, modid, lookup);
 	}
 
+	@Override
+	protected Ingredient ingredient(final ItemDamageResistance value) {
+		return value.ingredient();
+	}
+
 	protected static ItemDamageResistance damageResistance(final ItemLike item, final int piercing, final int slashing, final int crushing) {
 		return damageResistance(Ingredient.of(item), piercing, slashing, crushing);
 	}
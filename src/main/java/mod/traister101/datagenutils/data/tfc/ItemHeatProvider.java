@@ -1,17 +1,20 @@
 package mod.traister101.datagenutils.data.tfc;
 
 import mod.traister101.datagenutils.data.EnhancedRecipeProvider.AdditionalRecipeProvider;
-import mod.traister101.datagenutils.data.util.tfc.TFCFluidHeat;
+import mod.traister101.datagenutils.data.util.tfc.*;
 import net.dries007.tfc.common.component.heat.*;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
 import net.dries007.tfc.common.recipes.outputs.ItemStackProvider;
+import net.dries007.tfc.util.Metal;
 import net.dries007.tfc.util.data.FluidHeat;
 import net.neoforged.neoforge.fluids.FluidStack;
 
 import net.minecraft.core.HolderLookup.Provider;
-import net.minecraft.data.PackOutput;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.data.*;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.crafting.*;
+import net.minecraft.world.level.ItemLike;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -19,20 +22,44 @@ import java.util.stream.Stream;
 
 public abstract class ItemHeatProvider extends DataManagerProvider<HeatDefinition> implements AdditionalRecipeProvider {
 
-	private final List<RecipeHolder<HeatingRecipe>> meltingRecipes = new ArrayList<>();
+	private static final ItemStackProvider EMPTY_OUTPUT = ItemStackProvider.empty();
+
+	private final Queue<RecipeHolder<HeatingRecipe>> meltingRecipes = new ArrayDeque<>();
+	private final Queue<MeltingFamily> meltingFamilies = new ArrayDeque<>();
 
 	protected ItemHeatProvider(final PackOutput output, final String modid, final CompletableFuture<Provider> lookup) {
 		super(HeatCapability.MANAGER, output, modid, lookup);
 	}
 
+	@Override
+	public CompletableFuture<?> run(final CachedOutput output) {
+		// Recipes from a previous run nobody consumed, such as when a WatchProvider re-runs only this provider
+		meltingRecipes.clear();
+		meltingFamilies.clear();
+		return super.run(output);
+	}
+
+	@Override
+	protected Ingredient ingredient(final HeatDefinition value) {
+		return value.ingredient();
+	}
+
 	/**
 	 * @param ingredient The ingredient
 	 * @param fluidHeat The fluid heat to use see {@link TFCFluidHeat}
 	 * @param units The units
 	 */
 	protected static HeatDefinition heat(final Ingredient ingredient, final FluidHeat fluidHeat, final int units) {
-		return heat(ingredient, (fluidHeat.specificHeatCapacity() / TFCFluidHeat.HEAT_CAPACITY) * (units / 100F),
-				fluidHeat.meltTemperature() * 0.6F, fluidHeat.meltTemperature() * 0.8F);
+		return MetalHeat.of(fluidHeat).definition(ingredient, units);
+	}
+
+	/**
+	 * @param ingredient The ingredient
+	 * @param metal The metal, uses the precomputed values from {@link TFCFluidHeat#heat(Metal)}
+	 * @param units The units
+	 */
+	protected static HeatDefinition heat(final Ingredient ingredient, final Metal metal, final int units) {
+		return TFCFluidHeat.heat(metal).definition(ingredient, units);
 	}
 
 	/**
@@ -46,9 +73,25 @@ public abstract class ItemHeatProvider extends DataManagerProvider<HeatDefinitio
 		return new HeatDefinition(ingredient, heatCapacity, forgingTemperature, weldingTemperature);
 	}
 
+	private static HeatingRecipe meltingRecipe(final Ingredient ingredient, final FluidStack result, final float meltTemperature) {
+		return new HeatingRecipe(ingredient, EMPTY_OUTPUT, result, meltTemperature, false);
+	}
+
+	/**
+	 * Drains a queue as the returned stream is consumed so the consumer is the only one holding onto the elements
+	 */
+	private static <E> Stream<E> drain(final Queue<E> queue) {
+		return Stream.generate(queue::poll).takeWhile(Objects::nonNull);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implNote The melting recipes are handed off as the stream is consumed and aren't retained after, this can only be consumed once
+	 */
 	@Override
 	public Stream<? extends RecipeHolder<?>> additionalRecipes() {
-		return meltingRecipes.stream();
+		return Stream.concat(drain(meltingRecipes), drain(meltingFamilies).flatMap(MeltingFamily::recipes));
 	}
 
 	/**
@@ -72,6 +115,28 @@ public abstract class ItemHeatProvider extends DataManagerProvider<HeatDefinitio
 		add(id, heat(ingredient, fluidHeat, units));
 	}
 
+	/**
+	 * @param name The name
+	 * @param ingredient The ingredient
+	 * @param metal The metal
+	 * @param units The units
+	 */
+	protected final void addAndMelt(final String name, final Ingredient ingredient, final Metal metal, final int units) {
+		addAndMelt(ResourceLocation.fromNamespaceAndPath(modid, name), ingredient, metal, units);
+	}
+
+	/**
+	 * @param id The id
+	 * @param ingredient The ingredient
+	 * @param metal The metal
+	 * @param units The units
+	 */
+	protected final void addAndMelt(final ResourceLocation id, final Ingredient ingredient, final Metal metal, final int units) {
+		final var metalHeat = TFCFluidHeat.heat(metal);
+		addMelt(id.withPrefix("heating/"), ingredient, metalHeat.fluidHeat(), units);
+		add(id, metalHeat.definition(ingredient, units));
+	}
+
 	/**
 	 * @param id The id
 	 * @param ingredient The ingredient
@@ -79,8 +144,48 @@ public abstract class ItemHeatProvider extends DataManagerProvider<HeatDefinitio
 	 * @param units The units
 	 */
 	protected final void addMelt(final ResourceLocation id, final Ingredient ingredient, final FluidHeat fluidHeat, final int units) {
-		meltingRecipes.add(new RecipeHolder<>(id,
-				new HeatingRecipe(ingredient, ItemStackProvider.empty(), new FluidStack(fluidHeat.fluid(), units), fluidHeat.meltTemperature(),
-						false)));
+		meltingRecipes.add(new RecipeHolder<>(id, meltingRecipe(ingredient, new FluidStack(fluidHeat.fluid(), units), fluidHeat.meltTemperature())));
+	}
+
+	/**
+	 * Adds heat definitions and melting recipes for whole item families in one pass, for example
+	 * <pre>{@code
+	 *  addAndMeltFamilies(Map.of(Metal.COPPER, Map.of(ModItems.COPPER_ROD, 50, ModItems.COPPER_DOUBLE_SHEET, 400)));
+	 * }
+	 * </pre>
+	 * The ids are the item registry names, the melting recipes use the same id prefixed with {@code heating/} like
+	 * {@link #addAndMelt(ResourceLocation, Ingredient, Metal, int)}.
+	 *
+	 * @param families A table of metal to each item in the family and the units it melts into. Uses the precomputed values from
+	 * {@link TFCFluidHeat#heat(Metal)}
+	 *
+	 * @implNote The heat definitions are added immediately, the melting recipes are only created once {@link #additionalRecipes()} is consumed
+	 */
+	protected final void addAndMeltFamilies(final Map<Metal, ? extends Map<? extends ItemLike, Integer>> families) {
+		families.forEach((metal, family) -> {
+			final var metalHeat = TFCFluidHeat.heat(metal);
+			final var entries = new MeltingEntry[family.size()];
+			int index = 0;
+			for (final var entry : family.entrySet()) {
+				final var id = BuiltInRegistries.ITEM.getKey(entry.getKey().asItem());
+				final var ingredient = Ingredient.of(entry.getKey());
+				final int units = entry.getValue();
+				add(id, metalHeat.definition(ingredient, units));
+				entries[index++] = new MeltingEntry(id.withPrefix("heating/"), ingredient, units);
+			}
+			meltingFamilies.add(new MeltingFamily(metalHeat.fluidHeat(), entries));
+		});
+	}
+
+	private record MeltingEntry(ResourceLocation id, Ingredient ingredient, int units) {}
+
+	private record MeltingFamily(FluidHeat fluidHeat, MeltingEntry[] entries) {
+
+		private Stream<RecipeHolder<HeatingRecipe>> recipes() {
+			// Each recipe gets its own stack, FluidStack is mutable
+			return Arrays.stream(entries)
+					.map(entry -> new RecipeHolder<>(entry.id(), meltingRecipe(entry.ingredient(), new FluidStack(fluidHeat.fluid(), entry.units()),
+							fluidHeat.meltTemperature())));
+		}
 	}
 }
\ No newline at end of file
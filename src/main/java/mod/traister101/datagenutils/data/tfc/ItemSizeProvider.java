@@ -17,6 +17,11 @@ public abstract class ItemSizeProvider extends DataManagerProvider<ItemSizeDefin
 		super(ItemSizeManager.MANAGER, output, modid, lookup);
 	}
 
+	@Override
+	protected Ingredient ingredient(final ItemSizeDefinition value) {
+		return value.ingredient();
+	}
+
 	/**
 	 * @param item The item the {@link ItemSizeDefinition} applies to
 	 * @param size The size, determines what containers it can fit in
@@ -13,6 +13,7 @@ import net.minecraft.world.item.ItemStack;
 import lombok.*;
 import org.jetbrains.annotations.*;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @CanIgnoreReturnValue
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -215,6 +216,17 @@ public final class AdvancementBuilder {
 				new Advancement(parent, Optional.ofNullable(displayInfo), rewards, criteria, requirements, sendsTelemetryEvent));
 	}
 
+	/**
+	 * The translations for the display of this advancement
+	 *
+	 * @param advancementId The advancement id
+	 *
+	 * @return A stream of the translations, empty when there's no display
+	 */
+	Stream<LanguageTranslation> translations(final ResourceLocation advancementId) {
+		return display == null ? Stream.empty() : display.translations(advancementId);
+	}
+
 	/**
 	 * Saves the advancement to the output
 	 *
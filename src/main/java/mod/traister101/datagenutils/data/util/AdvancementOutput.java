@@ -4,6 +4,8 @@ import net.neoforged.neoforge.common.conditions.ICondition;
 
 import net.minecraft.advancements.AdvancementHolder;
 
+import java.util.Collection;
+
 /**
  * An advancement output styled after vanillas {@link net.minecraft.data.recipes.RecipeOutput}
  */
@@ -26,6 +28,22 @@ public interface AdvancementOutput {
 	 */
 	void lang(LanguageTranslation languageTranslation);
 
+	/**
+	 * Adds a batch of extra language translations
+	 *
+	 * @param languageTranslations The language translations
+	 */
+	default void lang(final Collection<LanguageTranslation> languageTranslations) {
+		languageTranslations.forEach(this::lang);
+	}
+
+	/**
+	 * @return If {@link #accept(AdvancementHolder, ICondition...)} may be called from multiple threads at once
+	 */
+	default boolean isConcurrent() {
+		return false;
+	}
+
 	/**
 	 * Helper (and primary means) of adding conditions
 	 *
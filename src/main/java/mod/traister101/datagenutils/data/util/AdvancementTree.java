@@ -0,0 +1,104 @@
+package mod.traister101.datagenutils.data.util;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+
+import net.minecraft.advancements.AdvancementHolder;
+import net.minecraft.resources.ResourceLocation;
+
+import org.jetbrains.annotations.*;
+import java.util.*;
+
+/**
+ * Declares a whole tree of advancements which are then saved as a single batch. Use like so
+ * <pre>{@code
+ *  final var tree = new AdvancementTree();
+ *  tree.add(modLoc("story/root"), AdvancementBuilder.root().display(...).addCriterion(...))
+ *      .add(modLoc("story/first"), AdvancementBuilder.child(modLoc("story/root")).display(...).addCriterion(...));
+ *  tree.save(output);
+ * }
+ * </pre>
+ * Advancements must be declared after their parent when the parent is part of the same tree.
+ */
+@CanIgnoreReturnValue
+public final class AdvancementTree {
+
+	private final Map<ResourceLocation, AdvancementBuilder> advancements = new LinkedHashMap<>();
+
+	/**
+	 * Adds an advancement to the tree
+	 *
+	 * @param advancementId The advancement id
+	 * @param builder The advancement builder
+	 *
+	 * @return The tree
+	 */
+	@Contract(value = "_, _ -> this", mutates = "this")
+	public AdvancementTree add(final ResourceLocation advancementId, final AdvancementBuilder builder) {
+		if (advancements.putIfAbsent(advancementId, builder) != null) {
+			throw new IllegalArgumentException("Advancement " + advancementId + " is already part of this tree");
+		}
+		return this;
+	}
+
+	/**
+	 * Adds an advancement to the tree
+	 *
+	 * @param id A resource string for the location, if no namespace is specified it'll default to {@value ResourceLocation#DEFAULT_NAMESPACE}
+	 * @param builder The advancement builder
+	 *
+	 * @return The tree
+	 */
+	@Contract(value = "_, _ -> this", mutates = "this")
+	public AdvancementTree add(final String id, final AdvancementBuilder builder) {
+		return add(ResourceLocation.parse(id), builder);
+	}
+
+	/**
+	 * Saves every advancement in the tree to the output. All the translations are handed to the output as a single de-duplicated batch before
+	 * the advancements themselves, which are accepted parents first. When the output {@link AdvancementOutput#isConcurrent() is concurrent}
+	 * the advancements are accepted a depth level at a time, with each level's siblings accepted in parallel
+	 *
+	 * @param output The advancement output
+	 *
+	 * @return The saved advancements in declaration order
+	 */
+	@Unmodifiable
+	public Map<ResourceLocation, AdvancementHolder> save(final AdvancementOutput output) {
+		final var saved = new LinkedHashMap<ResourceLocation, AdvancementHolder>(advancements.size());
+		// Depth 0 is a root or a child of an advancement outside this tree
+		final var depths = new HashMap<ResourceLocation, Integer>(advancements.size());
+		final var levels = new ArrayList<List<AdvancementHolder>>();
+		advancements.forEach((advancementId, builder) -> {
+			final var holder = builder.build(advancementId);
+			final var depth = holder.value().parent().filter(advancements::containsKey).map(parent -> {
+				final var parentDepth = depths.get(parent);
+				if (parentDepth == null) {
+					throw new IllegalStateException("Advancement " + advancementId + " is declared before its parent " + parent);
+				}
+				return parentDepth + 1;
+			}).orElse(0);
+			depths.put(advancementId, depth);
+			if (depth == levels.size()) levels.add(new ArrayList<>());
+			levels.get(depth).add(holder);
+			saved.put(advancementId, holder);
+		});
+
+		final var translations = new LinkedHashMap<String, LanguageTranslation>(advancements.size() * 2);
+		advancements.forEach((advancementId, builder) -> builder.translations(advancementId).forEach(translation -> {
+			final var existing = translations.putIfAbsent(translation.key(), translation);
+			if (existing != null && !existing.translation().equals(translation.translation())) {
+				throw new IllegalStateException("Conflicting translations for " + translation.key() + " '" + existing.translation() + "' and '" +
+						translation.translation() + "'");
+			}
+		}));
+		output.lang(translations.values());
+
+		if (output.isConcurrent()) {
+			// Accepting encodes the advancement, siblings are independent so only the levels need to be in order
+			levels.forEach(level -> level.parallelStream().forEach(output::accept));
+		} else {
+			saved.values().forEach(output::accept);
+		}
+		return Collections.unmodifiableMap(saved);
+	}
+}
\ No newline at end of file
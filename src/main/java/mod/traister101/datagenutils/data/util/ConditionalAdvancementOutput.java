@@ -6,6 +6,7 @@ import org.apache.commons.lang3.ArrayUtils;
 import net.minecraft.advancements.AdvancementHolder;
 
 import lombok.AllArgsConstructor;
+import java.util.Collection;
 
 @AllArgsConstructor
 class ConditionalAdvancementOutput implements AdvancementOutput {
@@ -26,8 +27,28 @@ class ConditionalAdvancementOutput implements AdvancementOutput {
 		return inner.accept(advancement, innerConditions);
 	}
 
+	/**
+	 * Merges the conditions into a single output rather than wrapping, so chained calls don't merge the conditions again on every accept
+	 */
+	@Override
+	public AdvancementOutput withConditions(final ICondition... conditions) {
+		if (conditions.length == 0) return this;
+
+		return new ConditionalAdvancementOutput(inner, ArrayUtils.addAll(this.conditions, conditions));
+	}
+
+	@Override
+	public boolean isConcurrent() {
+		return inner.isConcurrent();
+	}
+
 	@Override
 	public void lang(final LanguageTranslation languageTranslation) {
 		inner.lang(languageTranslation);
 	}
+
+	@Override
+	public void lang(final Collection<LanguageTranslation> languageTranslations) {
+		inner.lang(languageTranslations);
+	}
 }
\ No newline at end of file
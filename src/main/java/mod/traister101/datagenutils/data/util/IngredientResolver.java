@@ -0,0 +1,201 @@
+package mod.traister101.datagenutils.data.util;
+
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.registries.*;
+import net.minecraft.data.tags.TagsProvider.TagLookup;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.*;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.crafting.Ingredient;
+
+import org.jetbrains.annotations.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Resolves {@link Ingredient}s to the items they match at datagen time. The live registries don't have tags bound during datagen so tags are
+ * expanded from the contents of the tag providers in the run (see {@link #withTags(CompletableFuture, CompletableFuture)}), falling back to the
+ * registry lookup for any tag they don't define.
+ * <p>
+ * A single resolver is shared per {@link HolderLookup.Provider} so every provider given the same lookup reuses the expanded tags. Items are
+ * represented as a {@link BitSet} indexed by the item registry id.
+ */
+public final class IngredientResolver {
+
+	private static final Map<HolderLookup.Provider, IngredientResolver> RESOLVERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private final HolderLookup.RegistryLookup<Item> items;
+	private final List<TagLookup<Item>> tagContents = new CopyOnWriteArrayList<>();
+	private final Map<TagKey<Item>, Expansion> tags = new ConcurrentHashMap<>();
+
+	private IngredientResolver(final HolderLookup.Provider registries) {
+		this.items = registries.lookupOrThrow(Registries.ITEM);
+	}
+
+	/**
+	 * Get the resolver for a registry lookup
+	 *
+	 * @param registries The registry lookup, as passed to providers
+	 *
+	 * @return The shared resolver for the lookup
+	 */
+	public static IngredientResolver of(final HolderLookup.Provider registries) {
+		return RESOLVERS.computeIfAbsent(registries, IngredientResolver::new);
+	}
+
+	/**
+	 * Helper to bind the item tags of a tag provider to the resolver for a lookup. Pass the returned lookup to your providers in place of the
+	 * original, for example
+	 * <pre>{@code
+	 *  final var lookup = IngredientResolver.withTags(event.getLookupProvider(), itemTags.contentsGetter());
+	 * }
+	 * </pre>
+	 *
+	 * @param lookup The registry lookup
+	 * @param itemTags The contents of an item tag provider
+	 *
+	 * @return A lookup which completes once both the lookup and tags are available
+	 *
+	 * @implNote Providers using the returned lookup must run after the tag provider
+	 */
+	public static CompletableFuture<HolderLookup.Provider> withTags(final CompletableFuture<HolderLookup.Provider> lookup,
+			final CompletableFuture<TagLookup<Item>> itemTags) {
+		return lookup.thenCombine(itemTags, (registries, tags) -> {
+			of(registries).addTags(tags);
+			return registries;
+		});
+	}
+
+	/**
+	 * Adds item tag contents from a tag provider, these take priority over the registry lookup
+	 *
+	 * @param tagLookup The tag contents
+	 *
+	 * @return This resolver
+	 */
+	@Contract("_ -> this")
+	public IngredientResolver addTags(final TagLookup<Item> tagLookup) {
+		tagContents.add(tagLookup);
+		tags.clear();
+		return this;
+	}
+
+	/**
+	 * @param ingredient The ingredient
+	 *
+	 * @return A new set of the items the ingredient matches
+	 */
+	@Contract("_ -> new")
+	public BitSet resolve(final Ingredient ingredient) {
+		return resolve(ingredient, new HashSet<>());
+	}
+
+	/**
+	 * @param ingredient The ingredient
+	 * @param unresolvedTags Receives the tags the ingredient references (directly or through other tags) which are defined by neither the tag
+	 * providers nor the registry lookup
+	 *
+	 * @return A new set of the items the ingredient matches
+	 */
+	@Contract("_, _ -> new")
+	public BitSet resolve(final Ingredient ingredient, final Set<TagKey<Item>> unresolvedTags) {
+		final var bits = new BitSet();
+		if (ingredient.isCustom()) {
+			Arrays.stream(ingredient.getItems()).forEach(stack -> bits.set(BuiltInRegistries.ITEM.getId(stack.getItem())));
+			return bits;
+		}
+
+		for (final var value : ingredient.getValues()) {
+			switch (value) {
+				case Ingredient.ItemValue itemValue -> bits.set(BuiltInRegistries.ITEM.getId(itemValue.item().getItem()));
+				case Ingredient.TagValue tagValue -> {
+					final var expansion = tag(tagValue.tag(), new HashSet<>());
+					bits.or(expansion.items());
+					unresolvedTags.addAll(expansion.unresolved());
+				}
+				default -> value.getItems().forEach(stack -> bits.set(BuiltInRegistries.ITEM.getId(stack.getItem())));
+			}
+		}
+		return bits;
+	}
+
+	/**
+	 * @param tag The tag
+	 *
+	 * @return A new set of the items in the tag
+	 */
+	@Contract("_ -> new")
+	public BitSet resolve(final TagKey<Item> tag) {
+		return resolve(tag, new HashSet<>());
+	}
+
+	/**
+	 * @param tag The tag
+	 * @param unresolvedTags Receives the tags (this or any it references) which are defined by neither the tag providers nor the registry lookup
+	 *
+	 * @return A new set of the items in the tag
+	 */
+	@Contract("_, _ -> new")
+	public BitSet resolve(final TagKey<Item> tag, final Set<TagKey<Item>> unresolvedTags) {
+		final var expansion = tag(tag, new HashSet<>());
+		unresolvedTags.addAll(expansion.unresolved());
+		return (BitSet) expansion.items().clone();
+	}
+
+	/**
+	 * Expands a tag, memoizing it and every tag it references
+	 */
+	private Expansion tag(final TagKey<Item> tag, final Set<TagKey<Item>> visiting) {
+		final var cached = tags.get(tag);
+		if (cached != null) return cached;
+
+		if (!visiting.add(tag)) throw new IllegalStateException("Tag " + tag.location() + " references itself");
+
+		final var expansion = expand(tag, visiting);
+		visiting.remove(tag);
+		final var previous = tags.putIfAbsent(tag, expansion);
+		return previous == null ? expansion : previous;
+	}
+
+	private Expansion expand(final TagKey<Item> tag, final Set<TagKey<Item>> visiting) {
+		final var bits = new BitSet();
+		final var unresolved = new HashSet<TagKey<Item>>();
+		for (final var tagLookup : tagContents) {
+			final var builder = tagLookup.apply(tag);
+			if (builder.isEmpty()) continue;
+
+			final var lookup = new TagEntry.Lookup<Item>() {
+				@Override
+				public @Nullable Item element(final ResourceLocation id) {
+					return BuiltInRegistries.ITEM.getOptional(id).orElse(null);
+				}
+
+				@Override
+				public Collection<Item> tag(final ResourceLocation id) {
+					final var expansion = IngredientResolver.this.tag(TagKey.create(Registries.ITEM, id), visiting);
+					unresolved.addAll(expansion.unresolved());
+					return expansion.items()
+							.stream()
+							.mapToObj(BuiltInRegistries.ITEM::byId)
+							.toList();
+				}
+			};
+			builder.get().build().forEach(entry -> entry.build(lookup, item -> bits.set(BuiltInRegistries.ITEM.getId(item))));
+			return new Expansion(bits, Set.copyOf(unresolved));
+		}
+
+		final var holders = items.get(tag);
+		if (holders.isEmpty()) return new Expansion(bits, Set.of(tag));
+
+		holders.get().forEach(holder -> bits.set(BuiltInRegistries.ITEM.getId(holder.value())));
+		return new Expansion(bits, Set.of());
+	}
+
+	/**
+	 * An expanded tag
+	 *
+	 * @param items The items in the tag
+	 * @param unresolved The tags it references which couldn't be resolved, including itself
+	 */
+	private record Expansion(BitSet items, Set<TagKey<Item>> unresolved) {}
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+package mod.traister101.datagenutils.data.util;
+
+import com.google.common.hash.*;
+import com.google.gson.*;
+import com.google.gson.stream.JsonWriter;
+import com.mojang.logging.LogUtils;
+import com.mojang.serialization.*;
+
+import net.minecraft.Util;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.data.*;
+import net.minecraft.util.GsonHelper;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * How generated json is written. Both formats keep the stable key order of {@link DataProvider#saveStable(CachedOutput, JsonElement, Path)},
+ * {@link #MINIFIED} drops all whitespace making the output smaller and quicker to read when the datapack loads.
+ * <p>
+ * The default is {@link #PRETTY}, unless the {@value #PROPERTY} system property is set to a format name such as {@code minified}
+ */
+public enum JsonFormat {
+	/**
+	 * Indented the same as {@link DataProvider#saveStable(CachedOutput, JsonElement, Path)}, nice for development
+	 */
+	PRETTY("  "),
+	/**
+	 * No whitespace at all
+	 */
+	MINIFIED("");
+
+	// Before DEFAULT as parsing the property logs
+	private static final Logger LOGGER = LogUtils.getLogger();
+
+	/**
+	 * The system property used to pick the {@link #DEFAULT} format
+	 */
+	public static final String PROPERTY = "datagenutils.jsonFormat";
+	/**
+	 * The default format
+	 */
+	public static final JsonFormat DEFAULT = fromProperty();
+
+	private final String indent;
+
+	JsonFormat(final String indent) {
+		this.indent = indent;
+	}
+
+	/**
+	 * @return The format named by {@value #PROPERTY}, {@link #PRETTY} if it's unset or not a format
+	 */
+	private static JsonFormat fromProperty() {
+		final var property = System.getProperty(PROPERTY);
+		if (property == null) return PRETTY;
+
+		try {
+			return valueOf(property.strip().toUpperCase(Locale.ROOT));
+		} catch (final IllegalArgumentException exception) {
+			LOGGER.warn("Unknown json format '{}' for -D{}, expected one of {}. Using {}", property, PROPERTY,
+					Arrays.stream(values()).map(format -> format.name().toLowerCase(Locale.ROOT)).toList(), PRETTY);
+			return PRETTY;
+		}
+	}
+
+	/**
+	 * Configures a writer for this format
+	 *
+	 * @param jsonWriter The json writer
+	 */
+	public void configure(final JsonWriter jsonWriter) {
+		jsonWriter.setSerializeNulls(false);
+		jsonWriter.setIndent(indent);
+	}
+
+	/**
+	 * Saves the json in this format, {@link #PRETTY} is identical to {@link DataProvider#saveStable(CachedOutput, JsonElement, Path)}
+	 *
+	 * @param output The cached output
+	 * @param json The json
+	 * @param path The path to save to
+	 *
+	 * @return A future completed once saved
+	 */
+	public CompletableFuture<?> save(final CachedOutput output, final JsonElement json, final Path path) {
+		if (this == PRETTY) return DataProvider.saveStable(output, json, path);
+
+		return CompletableFuture.runAsync(() -> {
+			try {
+				write(output, json, path);
+			} catch (final IOException exception) {
+				LOGGER.error("Failed to save file to {}", path, exception);
+			}
+		}, Util.backgroundExecutor());
+	}
+
+	/**
+	 * Saves the json in this format. The json is serialized on the background executor and the blocking write is handed to the write executor
+	 *
+	 * @param output The cached output
+	 * @param json The json
+	 * @param path The path to save to
+	 * @param writeExecutor The executor to write on, {@code null} to write on the background executor like
+	 * {@link #save(CachedOutput, JsonElement, Path)}
+	 *
+	 * @return A future completed once saved
+	 */
+	public CompletableFuture<?> save(final CachedOutput output, final JsonElement json, final Path path,
+			@Nullable final WriteExecutor writeExecutor) {
+		if (writeExecutor == null) return save(output, json, path);
+
+		return CompletableFuture.supplyAsync(() -> serialize(json), Util.backgroundExecutor())
+				.thenAcceptAsync(serialized -> writeExecutor.write(output, path, serialized.bytes(), serialized.hash()), writeExecutor)
+				.exceptionally(throwable -> {
+					LOGGER.error("Failed to save file to {}", path, throwable);
+					return null;
+				});
+	}
+
+	/**
+	 * Encodes and saves the value in this format, see {@link DataProvider#saveStable(CachedOutput, HolderLookup.Provider, Codec, Object, Path)}
+	 *
+	 * @param output The cached output
+	 * @param registries The registries used to encode
+	 * @param codec The codec
+	 * @param value The value
+	 * @param path The path to save to
+	 * @param <T> The value type
+	 *
+	 * @return A future completed once saved
+	 */
+	public <T> CompletableFuture<?> save(final CachedOutput output, final HolderLookup.Provider registries, final Codec<T> codec, final T value,
+			final Path path) {
+		return save(output, registries, codec, value, path, null);
+	}
+
+	/**
+	 * Encodes and saves the value in this format, see {@link #save(CachedOutput, JsonElement, Path, WriteExecutor)}
+	 *
+	 * @param output The cached output
+	 * @param registries The registries used to encode
+	 * @param codec The codec
+	 * @param value The value
+	 * @param path The path to save to
+	 * @param writeExecutor The executor to write on, {@code null} to write on the background executor
+	 * @param <T> The value type
+	 *
+	 * @return A future completed once saved
+	 */
+	public <T> CompletableFuture<?> save(final CachedOutput output, final HolderLookup.Provider registries, final Codec<T> codec, final T value,
+			final Path path, @Nullable final WriteExecutor writeExecutor) {
+		return save(output, codec.encodeStart(registries.createSerializationContext(JsonOps.INSTANCE), value).getOrThrow(), path, writeExecutor);
+	}
+
+	/**
+	 * Wraps an output so json files written to it by code we don't control (such as vanilla's recipe provider) are rewritten in this format
+	 *
+	 * @param output The output to wrap
+	 *
+	 * @return An output writing json in this format
+	 */
+	public CachedOutput wrap(final CachedOutput output) {
+		if (this == PRETTY) return output;
+
+		return (path, data, hashCode) -> {
+			if (!path.toString().endsWith(".json")) {
+				output.writeIfNeeded(path, data, hashCode);
+				return;
+			}
+
+			write(output, JsonParser.parseString(new String(data, StandardCharsets.UTF_8)), path);
+		};
+	}
+
+	private void write(final CachedOutput output, final JsonElement json, final Path path) throws IOException {
+		final var serialized = serialize(json);
+		output.writeIfNeeded(path, serialized.bytes(), serialized.hash());
+	}
+
+	/**
+	 * Serializes the json the same as {@link DataProvider#saveStable(CachedOutput, JsonElement, Path)} but with this formats indent
+	 */
+	private Serialized serialize(final JsonElement json) {
+		try {
+			final var bytes = new ByteArrayOutputStream();
+			final var hashingStream = new HashingOutputStream(Hashing.sha1(), bytes);
+			try (final var jsonWriter = new JsonWriter(new OutputStreamWriter(hashingStream, StandardCharsets.UTF_8))) {
+				configure(jsonWriter);
+				GsonHelper.writeValue(jsonWriter, json, DataProvider.KEY_COMPARATOR);
+			}
+			return new Serialized(bytes.toByteArray(), hashingStream.hash());
+		} catch (final IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	private record Serialized(byte[] bytes, HashCode hash) {}
+}
\ No newline at end of file
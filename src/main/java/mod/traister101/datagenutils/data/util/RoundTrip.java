@@ -0,0 +1,79 @@
+package mod.traister101.datagenutils.data.util;
+
+import com.google.gson.JsonElement;
+import com.mojang.serialization.*;
+
+import java.util.*;
+
+/**
+ * Verifies values survive a trip through their codec. A value is encoded, decoded and encoded again, the two encodings must be equal. This
+ * catches codecs which write something they can't read back, or read it back differently, before the game tries to load it
+ */
+public final class RoundTrip {
+
+	private RoundTrip() {}
+
+	/**
+	 * Verifies a single value
+	 *
+	 * @param codec The codec
+	 * @param ops The ops to encode and decode with
+	 * @param value The value
+	 * @param <T> The value type
+	 *
+	 * @return The problem, empty if the value round trips
+	 */
+	public static <T> Optional<String> verify(final Codec<T> codec, final DynamicOps<JsonElement> ops, final T value) {
+		final var encoded = codec.encodeStart(ops, value);
+		if (encoded.isError()) return Optional.of("doesn't encode: " + encoded.error().orElseThrow().message());
+
+		final var json = encoded.getOrThrow();
+		final var decoded = codec.parse(ops, json);
+		if (decoded.isError()) return Optional.of("doesn't decode: " + decoded.error().orElseThrow().message() + " from " + json);
+
+		final var reencoded = codec.encodeStart(ops, decoded.getOrThrow());
+		if (reencoded.isError()) return Optional.of("doesn't encode once decoded: " + reencoded.error().orElseThrow().message());
+		if (!json.equals(reencoded.getOrThrow())) return Optional.of("encodes to " + json + " but round trips to " + reencoded.getOrThrow());
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Verifies every value in parallel, reporting every failure at once
+	 *
+	 * @param name What's being verified, for the error message
+	 * @param codec The codec
+	 * @param ops The ops to encode and decode with
+	 * @param values The values by id
+	 * @param <K> The id type
+	 * @param <T> The value type
+	 *
+	 * @throws IllegalStateException If any value doesn't round trip. This is an error, fix your code
+	 */
+	public static <K, T> void verifyAll(final String name, final Codec<T> codec, final DynamicOps<JsonElement> ops, final Map<K, T> values)
+			throws IllegalStateException {
+		final var failures = values.entrySet()
+				.parallelStream()
+				.<String>mapMulti((entry, consumer) -> verify(codec, ops, entry.getValue()).ifPresent(
+						failure -> consumer.accept(entry.getKey() + " " + failure)))
+				.sorted()
+				.toList();
+
+		report(name, values.size(), failures);
+	}
+
+	/**
+	 * Reports failures collected by {@link #verify(Codec, DynamicOps, Object)}
+	 *
+	 * @param name What's being verified, for the error message
+	 * @param verified How many values were verified
+	 * @param failures The failures, already prefixed with the failing values id
+	 *
+	 * @throws IllegalStateException If there are any failures. This is an error, fix your code
+	 */
+	public static void report(final String name, final long verified, final List<String> failures) throws IllegalStateException {
+		if (!failures.isEmpty()) {
+			throw new IllegalStateException(failures.size() + " of " + verified + " " + name + " don't round trip:\n" + String.join("\n", failures));
+		}
+	}
+}
\ No newline at end of file
@@ -102,9 +102,19 @@ public final class ShapedPatternBuilder<B> implements ShapedRecipeBuilder<B> {
 	 * Builds the {@link ShapedRecipePattern}
 	 *
 	 * @return The {@link ShapedRecipePattern} for the current builder state
+	 *
+	 * @implNote The pattern keeps the key and rows it's made from, so they're copied to keep built patterns safe from {@link #reset()}
 	 */
 	public ShapedRecipePattern build() {
-		return ShapedRecipePattern.of(key, rows);
+		return ShapedRecipePattern.of(new LinkedHashMap<>(key), List.copyOf(rows));
+	}
+
+	/**
+	 * Clears the pattern and key so the builder can be reused. Patterns already built are unaffected
+	 */
+	public void reset() {
+		rows.clear();
+		key.clear();
 	}
 
 	/**
@@ -116,5 +126,7 @@ public final class ShapedPatternBuilder<B> implements ShapedRecipeBuilder<B> {
 		void validate(final ResourceLocation recipeId);
 
 		ShapedRecipePattern build();
+
+		void reset();
 	}
 }
\ No newline at end of file
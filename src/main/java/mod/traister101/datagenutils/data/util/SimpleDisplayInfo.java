@@ -9,6 +9,7 @@ import lombok.*;
 import lombok.experimental.Tolerate;
 import org.jetbrains.annotations.Nullable;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Value
 @Builder
@@ -57,8 +58,12 @@ public class SimpleDisplayInfo {
 	}
 
 	void save(final AdvancementOutput output, final ResourceLocation advancementId) {
-		output.lang(LanguageTranslation.advancementTitle(advancementId, title));
-		output.lang(LanguageTranslation.advancementDescription(advancementId, description));
+		translations(advancementId).forEach(output::lang);
+	}
+
+	Stream<LanguageTranslation> translations(final ResourceLocation advancementId) {
+		return Stream.of(LanguageTranslation.advancementTitle(advancementId, title),
+				LanguageTranslation.advancementDescription(advancementId, description));
 	}
 
 	public static final class SimpleDisplayInfoBuilder {
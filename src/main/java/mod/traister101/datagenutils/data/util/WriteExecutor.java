@@ -0,0 +1,113 @@
+package mod.traister101.datagenutils.data.util;
+
+import com.google.common.hash.HashCode;
+
+import net.minecraft.data.CachedOutput;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Runs the blocking file writes of providers on virtual threads, one per write, so they don't tie up the platform threads encoding json.
+ * A {@link Semaphore} limits how many writes hit the file system at once, virtual threads waiting on a permit are cheap. Can be shared by
+ * several providers, see {@link JsonFormat#save(CachedOutput, com.google.gson.JsonElement, Path, WriteExecutor)}. Providers using it log its
+ * {@link #metrics()} once they're done writing. Close it once the data run is done, such as in a {@code GatherDataEvent} listener after the
+ * generator has run
+ */
+public final class WriteExecutor implements Executor, AutoCloseable {
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Semaphore permits;
+	private final int maxConcurrentWrites;
+	private final AtomicLong writes = new AtomicLong();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger peakInFlight = new AtomicInteger();
+	private final AtomicLong waitingNanos = new AtomicLong();
+	private final AtomicLong writingNanos = new AtomicLong();
+
+	/**
+	 * @param maxConcurrentWrites How many writes may run at once
+	 */
+	public WriteExecutor(final int maxConcurrentWrites) {
+		if (maxConcurrentWrites < 1) throw new IllegalArgumentException("At least one concurrent write is required, got " + maxConcurrentWrites);
+
+		this.permits = new Semaphore(maxConcurrentWrites);
+		this.maxConcurrentWrites = maxConcurrentWrites;
+	}
+
+	@Override
+	public void execute(final Runnable command) {
+		executor.execute(() -> {
+			final var queued = System.nanoTime();
+			permits.acquireUninterruptibly();
+			final var start = System.nanoTime();
+			waitingNanos.addAndGet(start - queued);
+			peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			try {
+				command.run();
+			} finally {
+				inFlight.decrementAndGet();
+				writingNanos.addAndGet(System.nanoTime() - start);
+				writes.incrementAndGet();
+				permits.release();
+			}
+		});
+	}
+
+	/**
+	 * Writes to the output, meant to be run on this executor
+	 *
+	 * @param output The cached output
+	 * @param path The path
+	 * @param data The data
+	 * @param hashCode The hash of the data
+	 *
+	 * @throws UncheckedIOException If the write fails
+	 */
+	void write(final CachedOutput output, final Path path, final byte[] data, final HashCode hashCode) throws UncheckedIOException {
+		try {
+			output.writeIfNeeded(path, data, hashCode);
+		} catch (final IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	/**
+	 * Waits for the queued writes to finish then stops the virtual thread executor
+	 */
+	@Override
+	public void close() {
+		executor.close();
+	}
+
+	/**
+	 * @return A snapshot of the metrics so far, of every provider using this executor
+	 */
+	public Metrics metrics() {
+		return new Metrics(writes.get(), maxConcurrentWrites, peakInFlight.get(), Duration.ofNanos(waitingNanos.get()),
+				Duration.ofNanos(writingNanos.get()));
+	}
+
+	/**
+	 * Write metrics
+	 *
+	 * @param writes How many writes have completed
+	 * @param maxConcurrentWrites The configured concurrency limit
+	 * @param peakConcurrentWrites The most writes which ran at once
+	 * @param waiting The total time writes spent waiting for a permit
+	 * @param writing The total time spent writing
+	 */
+	public record Metrics(long writes, int maxConcurrentWrites, int peakConcurrentWrites, Duration waiting, Duration writing) {
+
+		/**
+		 * @return A human readable summary for logging
+		 */
+		public String summary() {
+			return "%d writes, at most %d of %d at once, %d ms waiting and %d ms writing".formatted(writes, peakConcurrentWrites,
+					maxConcurrentWrites, waiting.toMillis(), writing.toMillis());
+		}
+	}
+}
\ No newline at end of file
@@ -4,6 +4,8 @@
  * {@link mod.traister101.datagenutils.data.util.LanguageTranslation}
  * <p>
  * {@link mod.traister101.datagenutils.data.util.AdvancementBuilder}
+ * <p>
+ * {@link mod.traister101.datagenutils.data.util.AdvancementTree}
  */
 @FieldsAreNonnullByDefault @MethodsReturnNonnullByDefault @ParametersAreNonnullByDefault
 package mod.traister101.datagenutils.data.util;
@@ -0,0 +1,55 @@
+package mod.traister101.datagenutils.data.util.tfc;
+
+import net.dries007.tfc.common.component.heat.HeatDefinition;
+import net.dries007.tfc.util.data.FluidHeat;
+
+import net.minecraft.world.item.crafting.Ingredient;
+
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Item heat values derived from a {@link FluidHeat}. These are computed once per fluid heat rather than for every heat definition
+ *
+ * @param fluidHeat The fluid heat the values are derived from
+ * @param ingotHeatCapacity The heat capacity of a single ingot (100 units)
+ * @param forgingTemperature The forging temperature
+ * @param weldingTemperature The welding temperature
+ */
+public record MetalHeat(FluidHeat fluidHeat, float ingotHeatCapacity, float forgingTemperature, float weldingTemperature) {
+
+	/**
+	 * The amount of units in a single ingot
+	 */
+	public static final int INGOT_UNITS = 100;
+
+	/**
+	 * @param fluidHeat The fluid heat
+	 *
+	 * @return The derived heat values
+	 */
+	@Contract("_ -> new")
+	public static MetalHeat of(final FluidHeat fluidHeat) {
+		return new MetalHeat(fluidHeat, fluidHeat.specificHeatCapacity() / TFCFluidHeat.HEAT_CAPACITY, fluidHeat.meltTemperature() * 0.6F,
+				fluidHeat.meltTemperature() * 0.8F);
+	}
+
+	/**
+	 * @param units The units
+	 *
+	 * @return The heat capacity of an item made from the given units. Heat capacity scales linearly with the units
+	 */
+	public float heatCapacity(final int units) {
+		return ingotHeatCapacity * (units / (float) INGOT_UNITS);
+	}
+
+	/**
+	 * @param ingredient The ingredient
+	 * @param units The units
+	 *
+	 * @return A heat definition for an item made from the given units
+	 */
+	@Contract("_, _ -> new")
+	public HeatDefinition definition(final Ingredient ingredient, final int units) {
+		return new HeatDefinition(ingredient, heatCapacity(units), forgingTemperature, weldingTemperature);
+	}
+}
\ No newline at end of file
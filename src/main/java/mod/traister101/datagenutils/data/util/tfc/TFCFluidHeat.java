@@ -7,6 +7,8 @@ import net.dries007.tfc.util.data.FluidHeat;
 public final class TFCFluidHeat {
 
 	public static final float HEAT_CAPACITY = 0.003F;
+	private static final FluidHeat[] FLUID_HEATS = new FluidHeat[Metal.values().length];
+	private static final MetalHeat[] METAL_HEATS = new MetalHeat[Metal.values().length];
 	public static final FluidHeat BISMUTH = of(Metal.BISMUTH, 0.14F, 270);
 	public static final FluidHeat BISMUTH_BRONZE = of(Metal.BISMUTH_BRONZE, 0.35F, 985);
 	public static final FluidHeat BLACK_BRONZE = of(Metal.BLACK_BRONZE, 0.35F, 1070);
@@ -36,7 +38,28 @@ public final class TFCFluidHeat {
 	public static final FluidHeat HIGH_CARBON_RED_STEEL = of(Metal.HIGH_CARBON_RED_STEEL, 0.35F, 1540);
 	public static final FluidHeat UNKNOWN = of(Metal.UNKNOWN, 0.5F, 400);
 
+	/**
+	 * @param metal The metal
+	 *
+	 * @return The fluid heat for the metal
+	 */
+	public static FluidHeat get(final Metal metal) {
+		return FLUID_HEATS[metal.ordinal()];
+	}
+
+	/**
+	 * @param metal The metal
+	 *
+	 * @return The precomputed item heat values for the metal
+	 */
+	public static MetalHeat heat(final Metal metal) {
+		return METAL_HEATS[metal.ordinal()];
+	}
+
 	private static FluidHeat of(final Metal metal, final float baseHeatCapacity, final float meltTemperature) {
-		return new FluidHeat(TFCFluids.METALS.get(metal).source().get(), meltTemperature, HEAT_CAPACITY / baseHeatCapacity);
+		final var fluidHeat = new FluidHeat(TFCFluids.METALS.get(metal).source().get(), meltTemperature, HEAT_CAPACITY / baseHeatCapacity);
+		FLUID_HEATS[metal.ordinal()] = fluidHeat;
+		METAL_HEATS[metal.ordinal()] = MetalHeat.of(fluidHeat);
+		return fluidHeat;
 	}
 }
\ No newline at end of file